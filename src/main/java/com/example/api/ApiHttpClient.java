@@ -0,0 +1,128 @@
+package com.example.api;
+
+import com.example.config.FrameworkConfig;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.ExecutionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared keep-alive connection pool and per-service request specifications.
+ *
+ * Every service gets an immutable {@link RequestSpecification} bound to its own base
+ * URL, so nothing depends on the JVM-global RestAssured.baseURI. RestAssured still
+ * creates a lightweight client per request, but all of them lease connections from
+ * one pool, so TCP and TLS handshakes are paid once per connection rather than per request.
+ * Response bodies are buffered as they arrive, so a connection goes back to the pool even
+ * when the caller only looks at the status code.
+ */
+@SuppressWarnings("deprecation") // RestAssured 5 requires an AbstractHttpClient and its connection manager API
+public final class ApiHttpClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiHttpClient.class);
+    private static final PoolingClientConnectionManager CONNECTIONS = new PoolingClientConnectionManager();
+    private static final AtomicLong NEW_CONNECTIONS = new AtomicLong();
+    private static final AtomicLong REUSED_CONNECTIONS = new AtomicLong();
+
+    private static final RestAssuredConfig POOLED_CONFIG = RestAssuredConfig.config()
+        .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(ApiHttpClient::createHttpClient));
+
+    static {
+        FrameworkConfig config = FrameworkConfig.getInstance();
+        CONNECTIONS.setMaxTotal(config.getHttpMaxTotal());
+        CONNECTIONS.setDefaultMaxPerRoute(config.getHttpMaxPerRoute());
+        Runtime.getRuntime().addShutdownHook(new Thread(
+            () -> LOGGER.info("API connection usage: {}", getMetrics()), "api-connection-metrics"));
+    }
+
+    private ApiHttpClient() {
+    }
+
+    /**
+     * Request specification bound to the given base URL and backed by the shared pool.
+     * A per-route limit configured in api.http.routeLimits for the URL's host is applied.
+     */
+    public static RequestSpecification specFor(String baseUrl) {
+        applyRouteLimit(baseUrl);
+        return new RequestSpecBuilder()
+            .setBaseUri(baseUrl)
+            .setConfig(POOLED_CONFIG)
+            .build();
+    }
+
+    /**
+     * RestAssured configuration for requests to absolute URLs outside any service
+     */
+    public static RestAssuredConfig pooledConfig() {
+        return POOLED_CONFIG;
+    }
+
+    public static Map<String, Object> getMetrics() {
+        PoolStats stats = CONNECTIONS.getTotalStats();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("newConnections", NEW_CONNECTIONS.get());
+        metrics.put("reusedConnections", REUSED_CONNECTIONS.get());
+        metrics.put("leased", stats.getLeased());
+        metrics.put("available", stats.getAvailable());
+        metrics.put("pending", stats.getPending());
+        metrics.put("max", stats.getMax());
+        return metrics;
+    }
+
+    private static DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(CONNECTIONS);
+        client.addResponseInterceptor((response, context) -> {
+            Object connection = context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+            if (connection instanceof HttpConnection) {
+                // The first request on a connection is the one that opened it
+                if (((HttpConnection) connection).getMetrics().getRequestCount() > 1) {
+                    REUSED_CONNECTIONS.incrementAndGet();
+                } else {
+                    NEW_CONNECTIONS.incrementAndGet();
+                }
+            }
+            // A streamed entity holds its connection until read; buffered, it is released right away
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.isStreaming()) {
+                response.setEntity(new BufferedHttpEntity(entity));
+            }
+        });
+        return client;
+    }
+
+    private static void applyRouteLimit(String baseUrl) {
+        Map<String, Integer> routeLimits = FrameworkConfig.getInstance().getHttpRouteLimits();
+        if (baseUrl == null || routeLimits.isEmpty()) {
+            return;
+        }
+        try {
+            URI uri = URI.create(baseUrl);
+            Integer limit = routeLimits.get(uri.getHost());
+            if (limit != null) {
+                boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+                int defaultPort = secure ? 443 : 80;
+                // Routes are keyed by the target as requested, which may or may not carry the default port
+                for (int port : new int[] {uri.getPort() != -1 ? uri.getPort() : defaultPort, uri.getPort()}) {
+                    CONNECTIONS.setMaxPerRoute(new HttpRoute(new HttpHost(uri.getHost(), port, uri.getScheme()), null, secure), limit);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Cannot apply route limit to invalid URL: {}", baseUrl);
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.example.api;
 
-import com.example.config.ConfigManager;
+import com.example.config.FrameworkConfig;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,15 +19,18 @@ public class AuthService {
     private static final ObjectMapper objectMapper = new ObjectMapper();
     
     private final String authUrl;
+    private final RequestSpecification spec;
     private final String clientSecret;
+    private final boolean strictValidation;
+    private final JwtValidator jwtValidator;
     
     public AuthService() {
-        ConfigManager.TestConfig config = ConfigManager.getConfig();
-        this.authUrl = config.authUrl();
-        this.clientSecret = config.clientSecret();
-        
-        // Set base URI for RestAssured
-        RestAssured.baseURI = authUrl;
+        FrameworkConfig config = FrameworkConfig.getInstance();
+        this.authUrl = config.getAuthUrl();
+        this.clientSecret = config.getClientSecret();
+        this.strictValidation = "remote".equalsIgnoreCase(config.getTokenValidation());
+        this.jwtValidator = new JwtValidator(config.getJwksUrl(), config.getJwtAudience());
+        this.spec = ApiHttpClient.specFor(authUrl);
     }
     
     /**
@@ -37,7 +40,7 @@ public class AuthService {
         try {
             LOGGER.info("Requesting OAuth token for user: {}", username);
             
-            Response response = given()
+            Response response = given(spec)
                 .header("Content-Type", "application/x-www-form-urlencoded")
                 .formParam("scope", "openid")
                 .formParam("grant_type", "password")
@@ -77,27 +80,50 @@ public class AuthService {
     }
     
     /**
-     * Get token using configuration values
+     * Get token using configuration values, cached until shortly before it expires
      */
     public TokenResponse getStaffToken() {
-        ConfigManager.TestConfig config = ConfigManager.getConfig();
-        return getToken(config.staffUsername(), config.staffPassword());
+        FrameworkConfig config = FrameworkConfig.getInstance();
+        return getCachedToken(config.getStaffUsername(), config.getStaffPassword());
     }
     
     /**
-     * Get token for test user
+     * Get token for test user, cached until shortly before it expires
      */
     public TokenResponse getTestUserToken() {
-        ConfigManager.TestConfig config = ConfigManager.getConfig();
-        return getToken(config.testUsername(), config.testPassword());
+        FrameworkConfig config = FrameworkConfig.getInstance();
+        return getCachedToken(config.getTestUsername(), config.getTestPassword());
     }
     
     /**
-     * Validate token by making a test API call
+     * Get token from the shared cache, requesting or refreshing it only when needed
+     */
+    public TokenResponse getCachedToken(String username, String password) {
+        return TokenCache.get(authUrl, username, () -> getToken(username, password), this::refreshToken);
+    }
+    
+    /**
+     * Validate token locally (signature, exp, nbf, aud), or against the server
+     * when auth.token.validation=remote or the token cannot be checked locally
      */
     public boolean validateToken(String token) {
+        if (!strictValidation) {
+            JwtValidator.Result result = jwtValidator.validate(token);
+            if (result != JwtValidator.Result.UNVERIFIABLE) {
+                LOGGER.debug("Local token validation result: {}", result);
+                return result == JwtValidator.Result.VALID;
+            }
+            LOGGER.info("Token cannot be validated locally, asking the server");
+        }
+        return validateTokenRemotely(token);
+    }
+    
+    /**
+     * Validate token by making a test API call
+     */
+    public boolean validateTokenRemotely(String token) {
         try {
-            Response response = given()
+            Response response = given(spec)
                 .header("Authorization", "Bearer " + token)
                 .when()
                 .get("/oauth/userinfo")
@@ -122,7 +148,7 @@ public class AuthService {
         try {
             LOGGER.info("Refreshing OAuth token");
             
-            Response response = given()
+            Response response = given(spec)
                 .header("Content-Type", "application/x-www-form-urlencoded")
                 .formParam("grant_type", "refresh_token")
                 .formParam("refresh_token", refreshToken)
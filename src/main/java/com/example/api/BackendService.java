@@ -1,20 +1,32 @@
 package com.example.api;
 
-import com.example.config.ConfigManager;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.example.config.FrameworkConfig;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.restassured.RestAssured;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mobile.automation.config.ConfigContext;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import static io.restassured.RestAssured.given;
 
@@ -26,16 +38,23 @@ import static io.restassured.RestAssured.given;
 public class BackendService {
     private static final Logger LOGGER = LoggerFactory.getLogger(BackendService.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectReader ENTITY = objectMapper.readerFor(EntityRef.class);
+    private static final ObjectReader ATTACHMENT = objectMapper.readerFor(AttachmentUpload.class);
+    private static final ObjectReader STREAM_LISTING = objectMapper.readerFor(StreamListing.class);
+    private static final String[] CLASSWORK_FILTERS = {"FILTER_PUBLISHED", "FILTER_SCHEDULED", "FILTER_DRAFT"};
+    private static final String ANNOUNCEMENT = "announcement";
+    private static final String ASSIGNMENT = "assignment";
+    private static final String ANNOUNCEMENTS_PATH = "/v1/announcements/";
+    private static final String ASSIGNMENTS_PATH = "/v1/assignments/";
     
     private final String backendApiUrl;
+    private final RequestSpecification spec;
     private final AuthService authService;
     
     public BackendService() {
-        ConfigManager.TestConfig config = ConfigManager.getConfig();
-        this.backendApiUrl = config.backendApiUrl();
+        this.backendApiUrl = FrameworkConfig.getInstance().getBackendApiUrl();
         this.authService = new AuthService();
-        
-        RestAssured.baseURI = backendApiUrl;
+        this.spec = ApiHttpClient.specFor(backendApiUrl);
     }
     
     /**
@@ -49,27 +68,9 @@ public class BackendService {
             // Find existing chat thread
             String chatId = findOrCreateChatThread(classId, recipientUserId, authToken);
             
-            // Generate random message
-            String messageContent = "Test message " + System.currentTimeMillis();
-            
-            // Send message
-            Map<String, Object> messagePayload = new HashMap<>();
-            messagePayload.put("chatThreadId", chatId);
-            messagePayload.put("attachmentIds", new ArrayList<>());
-            messagePayload.put("content", messageContent);
-            messagePayload.put("deliveryId", "delivery_" + System.currentTimeMillis());
-            messagePayload.put("messageType", "MESSAGE_TYPE_DEFAULT");
-            
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .header("Authorization", authToken)
-                .body(messagePayload)
-                .when()
-                .post("/v1/chat_threads/" + chatId + "/messages")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
+            // Generate unique message
+            String messageContent = "Test message " + UniqueIds.next("msg");
+            postChatMessage(chatId, messageContent, "MESSAGE_TYPE_DEFAULT", authToken);
             
             LOGGER.info("Chat message sent successfully: {}", messageContent);
             return new ChatMessageResponse(messageContent, chatId, true);
@@ -98,17 +99,17 @@ public class BackendService {
             String chatId = findOrCreateBroadcastThread(classId, participants, authToken);
             
             // Generate broadcast message
-            String messageContent = "Broadcast message " + System.currentTimeMillis();
+            String messageContent = "Broadcast message " + UniqueIds.next("broadcast");
             
             // Send broadcast message
             Map<String, Object> messagePayload = new HashMap<>();
             messagePayload.put("chatThreadId", chatId);
             messagePayload.put("attachmentIds", new ArrayList<>());
             messagePayload.put("content", messageContent);
-            messagePayload.put("deliveryId", "broadcast_" + System.currentTimeMillis());
+            messagePayload.put("deliveryId", UniqueIds.next("broadcast"));
             messagePayload.put("messageType", "MESSAGE_TYPE_BROADCAST");
             
-            Response response = given()
+            Response response = given(spec)
                 .header("Content-Type", "application/json")
                 .header("Authorization", authToken)
                 .body(messagePayload)
@@ -136,41 +137,16 @@ public class BackendService {
             AuthService.TokenResponse tokenResponse = authService.getStaffToken();
             String authToken = tokenResponse.getBearerToken();
             
-            // Upload attachment first
-            String attachmentId = uploadAnnouncementAttachment(authToken);
-            
-            // Create announcement
-            String announcementBody = "Test announcement " + System.currentTimeMillis();
-            
-            Map<String, Object> announcementPayload = new HashMap<>();
-            announcementPayload.put("classId", classId);
-            announcementPayload.put("body", announcementBody);
-            announcementPayload.put("links", new ArrayList<>());
-            
-            List<String> attachments = new ArrayList<>();
-            if (attachmentId != null) {
-                attachments.add(attachmentId);
-            }
-            announcementPayload.put("attachmentIds", attachments);
-            announcementPayload.put("isDirty", true);
-            
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .header("Authorization", authToken)
-                .body(announcementPayload)
-                .when()
-                .post("/v1/announcements")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
+            String announcementBody = "Test announcement " + UniqueIds.next("announcement");
+            String announcementId = postAnnouncement(classId, announcementBody, authToken);
+            track(ANNOUNCEMENT, ANNOUNCEMENTS_PATH, announcementId);
             
             LOGGER.info("Announcement created successfully: {}", announcementBody);
-            return new AnnouncementResponse(announcementBody, true);
+            return new AnnouncementResponse(announcementId, announcementBody, true);
             
         } catch (Exception e) {
             LOGGER.error("Failed to create announcement", e);
-            return new AnnouncementResponse(null, false);
+            return new AnnouncementResponse(null, null, false);
         }
     }
     
@@ -182,82 +158,260 @@ public class BackendService {
             AuthService.TokenResponse tokenResponse = authService.getStaffToken();
             String authToken = tokenResponse.getBearerToken();
             
-            // Upload attachment first
-            String attachmentId = uploadAssignmentAttachment(authToken);
-            
-            // Create assignment
-            String assignmentTitle = "Test Assignment " + System.currentTimeMillis();
+            String assignmentTitle = "Test Assignment " + UniqueIds.next("assignment");
             String assignmentInstructions = "Assignment instructions for testing";
-            
-            // Set due date to 7 days from now
-            LocalDateTime dueDate = LocalDateTime.now().plusDays(7);
-            String formattedDueDate = dueDate.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
-            
-            Map<String, Object> assignmentPayload = new HashMap<>();
-            assignmentPayload.put("classId", classId);
-            assignmentPayload.put("dueDate", formattedDueDate);
-            assignmentPayload.put("title", assignmentTitle);
-            assignmentPayload.put("instructions", assignmentInstructions);
-            assignmentPayload.put("links", new ArrayList<>());
-            assignmentPayload.put("isValid", true);
-            assignmentPayload.put("fileRequired", true);
-            
-            List<String> attachments = new ArrayList<>();
-            if (attachmentId != null) {
-                attachments.add(attachmentId);
-            }
-            assignmentPayload.put("attachmentIds", attachments);
-            assignmentPayload.put("assignmentType", "ASSIGNMENT_TYPE_GRADED");
-            assignmentPayload.put("max_points", 2);
-            
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .header("Authorization", authToken)
-                .body(assignmentPayload)
-                .when()
-                .post("/v1/assignments")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
+            String assignmentId = postAssignment(classId, assignmentTitle, assignmentInstructions, authToken);
+            track(ASSIGNMENT, ASSIGNMENTS_PATH, assignmentId);
             
             LOGGER.info("Assignment created successfully: {}", assignmentTitle);
-            return new AssignmentResponse(assignmentTitle, assignmentInstructions, true);
+            return new AssignmentResponse(assignmentId, assignmentTitle, assignmentInstructions, true);
             
         } catch (Exception e) {
             LOGGER.error("Failed to create assignment", e);
-            return new AssignmentResponse(null, null, false);
+            return new AssignmentResponse(null, null, null, false);
         }
     }
     
     /**
-     * Delete all posts (assignments, announcements, assessments) for cleanup
+     * Create {@code count} announcements concurrently, paced by api.seed.ratePerSecond
+     */
+    public SeedResult seedAnnouncements(String classId, int count) {
+        String authToken = authService.getStaffToken().getBearerToken();
+        return seed(ANNOUNCEMENT, ANNOUNCEMENTS_PATH, count,
+            () -> postAnnouncement(classId, "Seeded announcement " + UniqueIds.next("announcement"), authToken));
+    }
+    
+    /**
+     * Create {@code count} assignments concurrently, paced by api.seed.ratePerSecond
+     */
+    public SeedResult seedAssignments(String classId, int count) {
+        String authToken = authService.getStaffToken().getBearerToken();
+        return seed(ASSIGNMENT, ASSIGNMENTS_PATH, count,
+            () -> postAssignment(classId, "Seeded Assignment " + UniqueIds.next("assignment"),
+                "Assignment instructions for testing", authToken));
+    }
+    
+    /**
+     * Send {@code count} messages to one recipient concurrently, paced by api.seed.ratePerSecond.
+     * Messages are not tracked for cleanup, the backend has no delete endpoint for them.
+     */
+    public SeedResult seedChatMessages(String classId, String recipientUserId, int count) {
+        String authToken = authService.getStaffToken().getBearerToken();
+        String chatId = findOrCreateChatThread(classId, recipientUserId, authToken);
+        return seed("chat message", null, count,
+            () -> postChatMessage(chatId, "Seeded message " + UniqueIds.next("msg"), "MESSAGE_TYPE_DEFAULT", authToken));
+    }
+    
+    /**
+     * Delete the entities created by this thread's current scenario, without listing anything
+     */
+    public ParallelCleanup.CleanupSummary cleanupScenarioEntities() {
+        return deleteTracked("scenario", CreatedEntityRegistry.drainScenario());
+    }
+    
+    /**
+     * Delete every tracked entity not cleaned up by its scenario, at suite end.
+     * Each entity is deleted under the context it was created in, whatever context this service has.
+     */
+    public ParallelCleanup.CleanupSummary cleanupRunEntities() {
+        Map<ConfigContext, List<CreatedEntityRegistry.TrackedEntity>> byContext = new LinkedHashMap<>();
+        for (CreatedEntityRegistry.TrackedEntity entity : CreatedEntityRegistry.drainRun()) {
+            byContext.computeIfAbsent(entity.getContext(), context -> new ArrayList<>()).add(entity);
+        }
+        
+        int deleted = 0;
+        int failed = 0;
+        int listFailures = 0;
+        long elapsedMillis = 0;
+        for (Map.Entry<ConfigContext, List<CreatedEntityRegistry.TrackedEntity>> group : byContext.entrySet()) {
+            // Bound so the service, its base URL and its staff token belong to that context
+            try (ConfigContext.Scope scope = group.getKey().bind()) {
+                ParallelCleanup.CleanupSummary summary = new BackendService().deleteTracked("run", group.getValue());
+                deleted += summary.getDeleted();
+                failed += summary.getFailed();
+                listFailures += summary.getListFailures();
+                elapsedMillis += summary.getElapsedMillis();
+            }
+        }
+        return new ParallelCleanup.CleanupSummary(deleted, failed, listFailures, elapsedMillis);
+    }
+    
+    /**
+     * Delete all posts (assignments, announcements, assessments) for cleanup.
+     * Lists the whole class; prefer {@link #cleanupScenarioEntities()} for data created by the test.
      */
     public boolean deleteAllRoomsPosts(String classId, String fromUserToken) {
         try {
-            AuthService.TokenResponse tokenResponse = authService.getStaffToken();
-            String authToken = tokenResponse.getBearerToken();
-            
-            // Delete assignments
-            deleteAllAssignments(classId, authToken);
-            
-            // Delete assessments
-            deleteAllAssessments(classId, authToken);
-            
-            // Delete announcements
-            deleteAllAnnouncements(classId, authToken);
-            
-            LOGGER.info("Successfully deleted all posts for class: {}", classId);
-            return true;
-            
+            return cleanupRoomsPosts(classId).isSuccess();
         } catch (Exception e) {
             LOGGER.error("Failed to delete all posts for class: {}", classId, e);
             return false;
         }
     }
     
+    /**
+     * Delete all assignments, assessments and announcements of a class.
+     * Listing and deletes run concurrently, bounded by api.cleanup.parallelism.
+     */
+    public ParallelCleanup.CleanupSummary cleanupRoomsPosts(String classId) {
+        AuthService.TokenResponse tokenResponse = authService.getStaffToken();
+        String authToken = tokenResponse.getBearerToken();
+        FrameworkConfig config = FrameworkConfig.getInstance();
+        
+        try (ParallelCleanup cleanup = new ParallelCleanup(config.getCleanupParallelism(), config.getCleanupMaxRetries())) {
+            for (String filter : CLASSWORK_FILTERS) {
+                deleteAllClasswork(cleanup, classId, "CLASSWORK_TYPE_ASSIGNMENT", filter, ASSIGNMENTS_PATH, authToken);
+                deleteAllClasswork(cleanup, classId, "CLASSWORK_TYPE_ASSESSMENT", filter, "/v1/assessments/", authToken);
+            }
+            deleteAllAnnouncements(cleanup, classId, authToken);
+            
+            ParallelCleanup.CleanupSummary summary = cleanup.awaitSummary();
+            LOGGER.info("Cleanup of class {} finished: {}", classId, summary);
+            return summary;
+        }
+    }
+    
     // Private helper methods
     
+    private SeedResult seed(String entityType, String deletePath, int count, Supplier<String> create) {
+        FrameworkConfig config = FrameworkConfig.getInstance();
+        RateLimiter rateLimiter = new RateLimiter(config.getSeedRatePerSecond());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(count, config.getSeedParallelism())));
+        long startNanos = System.nanoTime();
+        
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                results.add(executor.submit(() -> {
+                    rateLimiter.acquire();
+                    return create.get();
+                }));
+            }
+            
+            List<String> createdIds = new ArrayList<>();
+            int failed = 0;
+            for (Future<String> result : results) {
+                try {
+                    String id = result.get();
+                    if (id != null) {
+                        createdIds.add(id);
+                        // Tracked here, on the scenario's thread, not on the worker that created it
+                        track(entityType, deletePath, id);
+                    } else {
+                        failed++;
+                    }
+                } catch (ExecutionException e) {
+                    failed++;
+                    LOGGER.warn("Failed to seed {}: {}", entityType, e.getCause().getMessage());
+                }
+            }
+            
+            SeedResult seedResult = new SeedResult(createdIds, failed, (System.nanoTime() - startNanos) / 1_000_000);
+            LOGGER.info("Seeded {} x {}: {}", count, entityType, seedResult);
+            return seedResult;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Post a chat message and return its server id
+     */
+    private String postChatMessage(String chatId, String content, String messageType, String authToken) {
+        Map<String, Object> messagePayload = new HashMap<>();
+        messagePayload.put("chatThreadId", chatId);
+        messagePayload.put("attachmentIds", new ArrayList<>());
+        messagePayload.put("content", content);
+        messagePayload.put("deliveryId", UniqueIds.next("delivery"));
+        messagePayload.put("messageType", messageType);
+        
+        Response response = given(spec)
+            .header("Content-Type", "application/json")
+            .header("Authorization", authToken)
+            .body(messagePayload)
+            .when()
+            .post("/v1/chat_threads/" + chatId + "/messages")
+            .then()
+            .statusCode(200)
+            .extract()
+            .response();
+        return createdId(response);
+    }
+    
+    /**
+     * Upload an attachment, create the announcement and return its server id
+     */
+    private String postAnnouncement(String classId, String body, String authToken) {
+        String attachmentId = uploadAnnouncementAttachment(authToken);
+        
+        Map<String, Object> announcementPayload = new HashMap<>();
+        announcementPayload.put("classId", classId);
+        announcementPayload.put("body", body);
+        announcementPayload.put("links", new ArrayList<>());
+        
+        List<String> attachments = new ArrayList<>();
+        if (attachmentId != null) {
+            attachments.add(attachmentId);
+        }
+        announcementPayload.put("attachmentIds", attachments);
+        announcementPayload.put("isDirty", true);
+        
+        Response response = given(spec)
+            .header("Content-Type", "application/json")
+            .header("Authorization", authToken)
+            .body(announcementPayload)
+            .when()
+            .post("/v1/announcements")
+            .then()
+            .statusCode(200)
+            .extract()
+            .response();
+        return createdId(response);
+    }
+    
+    /**
+     * Upload an attachment, create the assignment and return its server id
+     */
+    private String postAssignment(String classId, String title, String instructions, String authToken) {
+        String attachmentId = uploadAssignmentAttachment(authToken);
+        
+        // Set due date to 7 days from now
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(7);
+        String formattedDueDate = dueDate.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
+        
+        Map<String, Object> assignmentPayload = new HashMap<>();
+        assignmentPayload.put("classId", classId);
+        assignmentPayload.put("dueDate", formattedDueDate);
+        assignmentPayload.put("title", title);
+        assignmentPayload.put("instructions", instructions);
+        assignmentPayload.put("links", new ArrayList<>());
+        assignmentPayload.put("isValid", true);
+        assignmentPayload.put("fileRequired", true);
+        
+        List<String> attachments = new ArrayList<>();
+        if (attachmentId != null) {
+            attachments.add(attachmentId);
+        }
+        assignmentPayload.put("attachmentIds", attachments);
+        assignmentPayload.put("assignmentType", "ASSIGNMENT_TYPE_GRADED");
+        assignmentPayload.put("max_points", 2);
+        
+        Response response = given(spec)
+            .header("Content-Type", "application/json")
+            .header("Authorization", authToken)
+            .body(assignmentPayload)
+            .when()
+            .post("/v1/assignments")
+            .then()
+            .statusCode(200)
+            .extract()
+            .response();
+        return createdId(response);
+    }
+    
     private String findOrCreateChatThread(String classId, String recipientUserId, String authToken) {
         try {
             // Find existing thread
@@ -270,7 +424,7 @@ public class BackendService {
             participants.add(recipientUserId);
             findPayload.put("participantUserIds", participants);
             
-            Response findResponse = given()
+            Response findResponse = given(spec)
                 .header("Content-Type", "application/json")
                 .header("Authorization", authToken)
                 .body(findPayload)
@@ -281,9 +435,9 @@ public class BackendService {
                 .response();
             
             if (findResponse.getStatusCode() == 200) {
-                JsonNode responseJson = objectMapper.readTree(findResponse.getBody().asString());
-                if (responseJson.has("id")) {
-                    return responseJson.get("id").asText();
+                EntityRef thread = ENTITY.readValue(findResponse.asInputStream());
+                if (thread.getId() != null) {
+                    return thread.getId();
                 }
             }
             
@@ -294,7 +448,7 @@ public class BackendService {
             createPayload.put("participantUserIds", participants);
             createPayload.put("threadType", "THREAD_TYPE_DEFAULT");
             
-            Response createResponse = given()
+            Response createResponse = given(spec)
                 .header("Content-Type", "application/json")
                 .header("Authorization", authToken)
                 .body(createPayload)
@@ -305,8 +459,8 @@ public class BackendService {
                 .extract()
                 .response();
             
-            JsonNode createJson = objectMapper.readTree(createResponse.getBody().asString());
-            return createJson.get("id").asText();
+            EntityRef thread = ENTITY.readValue(createResponse.asInputStream());
+            return thread.getId();
             
         } catch (Exception e) {
             LOGGER.error("Failed to find or create chat thread", e);
@@ -317,7 +471,7 @@ public class BackendService {
     private String findOrCreateBroadcastThread(String classId, List<String> participants, String authToken) {
         // Similar implementation to findOrCreateChatThread but for broadcast
         // Implementation details would follow the same pattern
-        return "broadcast_thread_" + System.currentTimeMillis();
+        return UniqueIds.next("broadcast_thread");
     }
     
     private String uploadAnnouncementAttachment(String authToken) {
@@ -328,7 +482,7 @@ public class BackendService {
             attachmentPayload.put("mime_type", "image/jpeg");
             attachmentPayload.put("alt_text", "Test image");
             
-            Response response = given()
+            Response response = given(spec)
                 .header("Content-Type", "application/json")
                 .header("Authorization", authToken)
                 .body(attachmentPayload)
@@ -339,14 +493,12 @@ public class BackendService {
                 .extract()
                 .response();
             
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            String attachmentId = responseJson.get("id").asText();
-            String presignedUrl = responseJson.get("presignedUrl").asText();
+            AttachmentUpload attachment = ATTACHMENT.readValue(response.asInputStream());
             
             // Upload file to presigned URL (simplified for demo)
-            uploadToPresignedUrl(presignedUrl);
+            uploadToPresignedUrl(attachment.getPresignedUrl());
             
-            return attachmentId;
+            return attachment.getId();
             
         } catch (Exception e) {
             LOGGER.error("Failed to upload announcement attachment", e);
@@ -361,7 +513,7 @@ public class BackendService {
             attachmentPayload.put("file_name", "test_document.pdf");
             attachmentPayload.put("mime_type", "application/pdf");
             
-            Response response = given()
+            Response response = given(spec)
                 .header("Content-Type", "application/json")
                 .header("Authorization", authToken)
                 .body(attachmentPayload)
@@ -372,14 +524,12 @@ public class BackendService {
                 .extract()
                 .response();
             
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            String attachmentId = responseJson.get("id").asText();
-            String presignedUrl = responseJson.get("presignedUrl").asText();
+            AttachmentUpload attachment = ATTACHMENT.readValue(response.asInputStream());
             
             // Upload file to presigned URL (simplified for demo)
-            uploadToPresignedUrl(presignedUrl);
+            uploadToPresignedUrl(attachment.getPresignedUrl());
             
-            return attachmentId;
+            return attachment.getId();
             
         } catch (Exception e) {
             LOGGER.error("Failed to upload assignment attachment", e);
@@ -387,63 +537,145 @@ public class BackendService {
         }
     }
     
-    private void uploadToPresignedUrl(String presignedUrl) {
-        // Simplified implementation - in real scenario would upload actual file
-        LOGGER.info("Would upload file to presigned URL: {}", presignedUrl);
+    private static void track(String entityType, String deletePath, String id) {
+        if (deletePath != null && id != null) {
+            CreatedEntityRegistry.track(entityType, deletePath, id);
+        }
     }
     
-    private void deleteAllAssignments(String classId, String authToken) {
-        String[] filters = {"FILTER_PUBLISHED", "FILTER_SCHEDULED", "FILTER_DRAFT"};
+    private ParallelCleanup.CleanupSummary deleteTracked(String scope, List<CreatedEntityRegistry.TrackedEntity> entities) {
+        if (entities.isEmpty()) {
+            return new ParallelCleanup.CleanupSummary(0, 0, 0, 0);
+        }
+        String authToken = authService.getStaffToken().getBearerToken();
+        FrameworkConfig config = FrameworkConfig.getInstance();
         
-        for (String filter : filters) {
-            try {
-                Response response = given()
-                    .header("Authorization", authToken)
-                    .queryParam("classwork_type", "CLASSWORK_TYPE_ASSIGNMENT")
-                    .queryParam("filter", filter)
-                    .when()
-                    .get("/v1/classes/" + classId + "/classwork")
-                    .then()
-                    .statusCode(200)
-                    .extract()
-                    .response();
-                
-                JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-                if (responseJson.has("streamObjects")) {
-                    for (JsonNode streamObject : responseJson.get("streamObjects")) {
-                        String assignmentId = streamObject.get("message").get("id").asText();
-                        deleteAssignment(assignmentId, authToken);
-                    }
-                }
-            } catch (Exception e) {
-                LOGGER.error("Failed to delete assignments with filter: {}", filter, e);
+        try (ParallelCleanup cleanup = new ParallelCleanup(config.getCleanupParallelism(), config.getCleanupMaxRetries())) {
+            for (CreatedEntityRegistry.TrackedEntity entity : entities) {
+                cleanup.delete(entity.getType(), entity.getId(), () -> deleteRequest(entity.getPath(), authToken));
             }
+            ParallelCleanup.CleanupSummary summary = cleanup.awaitSummary();
+            LOGGER.info("Cleanup of {} tracked entities of the {} finished: {}", entities.size(), scope, summary);
+            return summary;
         }
     }
     
-    private void deleteAllAssessments(String classId, String authToken) {
-        // Similar implementation to deleteAllAssignments but for assessments
-        LOGGER.info("Deleting all assessments for class: {}", classId);
+    private void uploadToPresignedUrl(String presignedUrl) {
+        // Simplified implementation - in real scenario would upload actual file
+        LOGGER.info("Would upload file to presigned URL: {}", presignedUrl);
     }
     
-    private void deleteAllAnnouncements(String classId, String authToken) {
-        // Similar implementation for announcements
-        LOGGER.info("Deleting all announcements for class: {}", classId);
+    private void deleteAllClasswork(ParallelCleanup cleanup, String classId, String classworkType, String filter,
+                                    String deletePath, String authToken) {
+        cleanup.listAndDelete(classworkType + " " + filter,
+            () -> given(spec)
+                .header("Authorization", authToken)
+                .queryParam("classwork_type", classworkType)
+                .queryParam("filter", filter)
+                .when()
+                .get("/v1/classes/" + classId + "/classwork")
+                .then()
+                .extract()
+                .response(),
+            BackendService::streamObjectIds,
+            id -> () -> deleteRequest(deletePath + id, authToken));
     }
     
-    private void deleteAssignment(String assignmentId, String authToken) {
-        try {
-            given()
+    private void deleteAllAnnouncements(ParallelCleanup cleanup, String classId, String authToken) {
+        cleanup.listAndDelete("announcements",
+            () -> given(spec)
                 .header("Authorization", authToken)
+                .queryParam("class_id", classId)
                 .when()
-                .delete("/v1/assignments/" + assignmentId)
+                .get("/v1/announcements")
                 .then()
-                .statusCode(200);
-            
-            LOGGER.info("Deleted assignment: {}", assignmentId);
-        } catch (Exception e) {
-            LOGGER.error("Failed to delete assignment: {}", assignmentId, e);
+                .extract()
+                .response(),
+            BackendService::streamObjectIds,
+            id -> () -> deleteRequest(ANNOUNCEMENTS_PATH + id, authToken));
+    }
+    
+    private Response deleteRequest(String path, String authToken) {
+        return given(spec)
+            .header("Authorization", authToken)
+            .when()
+            .delete(path)
+            .then()
+            .extract()
+            .response();
+    }
+    
+    private static List<String> streamObjectIds(Response response) {
+        List<String> ids = new ArrayList<>();
+        try {
+            StreamListing listing = STREAM_LISTING.readValue(response.asInputStream());
+            for (EntityRef streamObject : listing.getStreamObjects()) {
+                String id = streamObject.getMessageId();
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to parse listing response", e);
+        }
+        return ids;
+    }
+    
+    /**
+     * Server id of a created entity, from "id" or a wrapped "message.id"
+     */
+    private static String createdId(Response response) {
+        try {
+            EntityRef entity = ENTITY.readValue(response.asInputStream());
+            return entity.getId() != null ? entity.getId() : entity.getMessageId();
+        } catch (IOException e) {
+            LOGGER.warn("Created entity response could not be parsed: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    // JSON bindings, read straight from the response stream
+    
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class EntityRef {
+        private final String id;
+        private final EntityRef message;
+        
+        @JsonCreator
+        EntityRef(@JsonProperty("id") String id, @JsonProperty("message") EntityRef message) {
+            this.id = id;
+            this.message = message;
         }
+        
+        String getId() { return id; }
+        String getMessageId() { return message != null ? message.id : null; }
+    }
+    
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class AttachmentUpload {
+        private final String id;
+        private final String presignedUrl;
+        
+        @JsonCreator
+        AttachmentUpload(@JsonProperty("id") String id, @JsonProperty("presignedUrl") String presignedUrl) {
+            this.id = id;
+            this.presignedUrl = presignedUrl;
+        }
+        
+        String getId() { return id; }
+        String getPresignedUrl() { return presignedUrl; }
+    }
+    
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class StreamListing {
+        private final List<EntityRef> streamObjects;
+        
+        @JsonCreator
+        StreamListing(@JsonProperty("streamObjects") List<EntityRef> streamObjects) {
+            this.streamObjects = streamObjects != null ? streamObjects : Collections.emptyList();
+        }
+        
+        List<EntityRef> getStreamObjects() { return streamObjects; }
     }
     
     // Response classes
@@ -464,31 +696,63 @@ public class BackendService {
     }
     
     public static class AnnouncementResponse {
+        private final String id;
         private final String body;
         private final boolean success;
         
-        public AnnouncementResponse(String body, boolean success) {
+        public AnnouncementResponse(String id, String body, boolean success) {
+            this.id = id;
             this.body = body;
             this.success = success;
         }
         
+        public String getId() { return id; }
         public String getBody() { return body; }
         public boolean isSuccess() { return success; }
     }
     
     public static class AssignmentResponse {
+        private final String id;
         private final String title;
         private final String instructions;
         private final boolean success;
         
-        public AssignmentResponse(String title, String instructions, boolean success) {
+        public AssignmentResponse(String id, String title, String instructions, boolean success) {
+            this.id = id;
             this.title = title;
             this.instructions = instructions;
             this.success = success;
         }
         
+        public String getId() { return id; }
         public String getTitle() { return title; }
         public String getInstructions() { return instructions; }
         public boolean isSuccess() { return success; }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Server ids of seeded entities, for targeted cleanup
+     */
+    public static class SeedResult {
+        private final List<String> createdIds;
+        private final int failed;
+        private final long elapsedMillis;
+        
+        public SeedResult(List<String> createdIds, int failed, long elapsedMillis) {
+            this.createdIds = Collections.unmodifiableList(createdIds);
+            this.failed = failed;
+            this.elapsedMillis = elapsedMillis;
+        }
+        
+        public List<String> getCreatedIds() { return createdIds; }
+        public int getFailed() { return failed; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        
+        public boolean isSuccess() { return failed == 0; }
+        
+        @Override
+        public String toString() {
+            return String.format("SeedResult{created=%d, failed=%d, elapsedMillis=%d}", createdIds.size(), failed, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.api;
+
+import com.mobile.automation.config.ConfigContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entities created through {@link BackendService}, tracked per scenario and per run.
+ *
+ * The scenario scope is per thread, matching how scenarios are executed. Every entity
+ * is also kept in the run scope until some cleanup drains it, so entities of a scenario
+ * that never reached its cleanup are still removed at suite end. Each entity keeps the
+ * {@link ConfigContext} it was created under, so that suite-end cleanup, which runs outside
+ * any scenario's binding, deletes it from the backend it was created on.
+ */
+public final class CreatedEntityRegistry {
+    private static final ThreadLocal<List<TrackedEntity>> SCENARIO = ThreadLocal.withInitial(ArrayList::new);
+    private static final Set<TrackedEntity> RUN = ConcurrentHashMap.newKeySet();
+
+    private CreatedEntityRegistry() {
+    }
+
+    public static void track(String type, String deletePath, String id) {
+        TrackedEntity entity = new TrackedEntity(type, deletePath + id, id, ConfigContext.current());
+        SCENARIO.get().add(entity);
+        RUN.add(entity);
+    }
+
+    public static boolean hasScenarioEntities() {
+        return !SCENARIO.get().isEmpty();
+    }
+
+    public static boolean hasRunEntities() {
+        return !RUN.isEmpty();
+    }
+
+    /**
+     * Entities created by the current scenario, removed from both scopes
+     */
+    public static List<TrackedEntity> drainScenario() {
+        List<TrackedEntity> entities = new ArrayList<>(SCENARIO.get());
+        SCENARIO.remove();
+        RUN.removeAll(entities);
+        return entities;
+    }
+
+    /**
+     * Every entity not cleaned up yet, removed from the run scope
+     */
+    public static List<TrackedEntity> drainRun() {
+        List<TrackedEntity> entities = new ArrayList<>();
+        for (TrackedEntity entity : RUN) {
+            if (RUN.remove(entity)) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    public static class TrackedEntity {
+        private final String type;
+        private final String path;
+        private final String id;
+        private final ConfigContext context;
+
+        TrackedEntity(String type, String path, String id, ConfigContext context) {
+            this.type = type;
+            this.path = path;
+            this.id = id;
+            this.context = context;
+        }
+
+        public String getType() { return type; }
+        public String getPath() { return path; }
+        public String getId() { return id; }
+        public ConfigContext getContext() { return context; }
+
+        @Override
+        public String toString() {
+            return type + " " + id;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Validates JWTs locally: signature against the issuer's JWKS, plus exp, nbf and aud.
+ *
+ * Keys are fetched once per JWKS URL and cached. A token signed with an unknown key id
+ * triggers a refetch (at most once per {@link #REFETCH_INTERVAL_MILLIS}), which picks
+ * up rotated keys without restarting the run.
+ */
+public class JwtValidator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtValidator.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<String, KeySet> KEY_SETS = new ConcurrentHashMap<>();
+    private static final Map<String, String> SIGNATURE_ALGORITHMS = Map.of(
+        "RS256", "SHA256withRSA",
+        "RS384", "SHA384withRSA",
+        "RS512", "SHA512withRSA"
+    );
+    private static final long CLOCK_SKEW_SECONDS = 30;
+    private static final long REFETCH_INTERVAL_MILLIS = 30_000;
+
+    public enum Result {
+        VALID,
+        INVALID,
+        /** The token could not be checked locally (not a signed JWT, unsupported algorithm, keys unavailable) */
+        UNVERIFIABLE
+    }
+
+    private final String jwksUrl;
+    private final String audience;
+
+    /**
+     * @param audience expected aud claim; null or empty skips the audience check
+     */
+    public JwtValidator(String jwksUrl, String audience) {
+        this.jwksUrl = jwksUrl;
+        this.audience = audience;
+    }
+
+    public Result validate(String token) {
+        String[] parts = token.startsWith("Bearer ") ? token.substring(7).split("\\.") : token.split("\\.");
+        if (parts.length != 3) {
+            // Opaque or encrypted tokens are for the server to judge
+            LOGGER.debug("Token is not a signed JWT");
+            return Result.UNVERIFIABLE;
+        }
+
+        try {
+            JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[0]));
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+
+            Result claimsResult = checkClaims(claims);
+            if (claimsResult != Result.VALID) {
+                return claimsResult;
+            }
+
+            String algorithm = SIGNATURE_ALGORITHMS.get(header.path("alg").asText());
+            if (algorithm == null) {
+                LOGGER.debug("Unsupported JWT algorithm: {}", header.path("alg").asText());
+                return Result.UNVERIFIABLE;
+            }
+            PublicKey key = keySet().find(header.path("kid").asText(null));
+            if (key == null) {
+                LOGGER.debug("No JWKS key for kid {}", header.path("kid").asText(null));
+                return Result.UNVERIFIABLE;
+            }
+
+            Signature signature = Signature.getInstance(algorithm);
+            signature.initVerify(key);
+            signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            boolean valid = signature.verify(Base64.getUrlDecoder().decode(parts[2]));
+            return valid ? Result.VALID : Result.INVALID;
+        } catch (IllegalArgumentException | IOException e) {
+            LOGGER.debug("Malformed JWT: {}", e.getMessage());
+            return Result.INVALID;
+        } catch (GeneralSecurityException e) {
+            LOGGER.warn("JWT signature check failed: {}", e.getMessage());
+            return Result.UNVERIFIABLE;
+        }
+    }
+
+    private Result checkClaims(JsonNode claims) {
+        long now = System.currentTimeMillis() / 1000;
+        if (claims.has("exp") && now - CLOCK_SKEW_SECONDS >= claims.get("exp").asLong()) {
+            LOGGER.debug("Token expired at {}", claims.get("exp").asLong());
+            return Result.INVALID;
+        }
+        if (claims.has("nbf") && now + CLOCK_SKEW_SECONDS < claims.get("nbf").asLong()) {
+            LOGGER.debug("Token not valid before {}", claims.get("nbf").asLong());
+            return Result.INVALID;
+        }
+        if (audience != null && !audience.isEmpty() && !hasAudience(claims.path("aud"))) {
+            LOGGER.debug("Token audience {} does not include {}", claims.path("aud"), audience);
+            return Result.INVALID;
+        }
+        return Result.VALID;
+    }
+
+    private boolean hasAudience(JsonNode aud) {
+        if (aud.isArray()) {
+            for (JsonNode value : aud) {
+                if (audience.equals(value.asText())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return audience.equals(aud.asText());
+    }
+
+    private KeySet keySet() {
+        return KEY_SETS.computeIfAbsent(jwksUrl, KeySet::new);
+    }
+
+    private static class KeySet {
+        private final String url;
+        private volatile Map<String, PublicKey> keys = Map.of();
+        private volatile long fetchedAtMillis;
+
+        KeySet(String url) {
+            this.url = url;
+        }
+
+        PublicKey find(String kid) {
+            PublicKey key = lookup(kid);
+            if (key == null) {
+                synchronized (this) {
+                    key = lookup(kid);
+                    if (key == null && System.currentTimeMillis() - fetchedAtMillis >= REFETCH_INTERVAL_MILLIS) {
+                        // Unknown key id: the issuer may have rotated its keys
+                        fetch();
+                        key = lookup(kid);
+                    }
+                }
+            }
+            return key;
+        }
+
+        private PublicKey lookup(String kid) {
+            Map<String, PublicKey> current = keys;
+            if (kid == null) {
+                return current.size() == 1 ? current.values().iterator().next() : null;
+            }
+            return current.get(kid);
+        }
+
+        private void fetch() {
+            fetchedAtMillis = System.currentTimeMillis();
+            try {
+                Response response = given().config(ApiHttpClient.pooledConfig()).when().get(url).then().extract().response();
+                if (response.getStatusCode() != 200) {
+                    LOGGER.warn("Failed to fetch JWKS from {}. Status: {}", url, response.getStatusCode());
+                    return;
+                }
+
+                Map<String, PublicKey> fetched = new HashMap<>();
+                KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+                for (JsonNode jwk : objectMapper.readTree(response.asInputStream()).path("keys")) {
+                    if (!"RSA".equals(jwk.path("kty").asText())) {
+                        continue;
+                    }
+                    BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+                    BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+                    fetched.put(jwk.path("kid").asText(""), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+                }
+                keys = fetched;
+                LOGGER.info("Loaded {} signing keys from {}", fetched.size(), url);
+            } catch (Exception e) {
+                LOGGER.warn("Failed to load JWKS from {}", url, e);
+            }
+        }
+    }
+}
@@ -1,17 +1,35 @@
 package com.example.api;
 
-import com.example.config.ConfigManager;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.example.config.FrameworkConfig;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.restassured.RestAssured;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.is;
 
 /**
  * Media Service for content and organization API operations
@@ -21,16 +39,47 @@ import static io.restassured.RestAssured.given;
 public class MediaService {
     private static final Logger LOGGER = LoggerFactory.getLogger(MediaService.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String LIVE_FEEDS_PATH = "/api/v6/secondary_organizations/%s/live_feeds/";
+    private static final String EVENTS_PATH = "/api/v2/s/%s/events";
+    private static final String ARTICLES_PATH = "/api/v5/custom_sections/%s/articles";
+    private static final String SCORES_PATH = "/api/v6/secondary_organizations/%s/scores_schedules";
+    private static final String DIRECTORIES_PATH = "/api/v6/secondary_organizations/%s/directories";
+    private static final String DININGS_PATH = "/api/v6/secondary_organizations/%s/dinings";
+    
+    // Readers are immutable and thread-safe; built once so type resolution is not repeated per call
+    private static final ObjectReader ORGANIZATIONS = objectMapper.readerFor(new TypeReference<List<Organization>>() {});
+    private static final ObjectReader FEED_ITEMS = objectMapper.readerFor(new TypeReference<ResultsPage<FeedItem>>() {});
+    private static final ObjectReader EVENTS = objectMapper.readerFor(new TypeReference<ResultsPage<Event>>() {});
+    private static final ObjectReader ARTICLES = objectMapper.readerFor(new TypeReference<ResultsPage<NewsArticle>>() {});
+    private static final ObjectReader ATHLETIC_EVENTS = objectMapper.readerFor(new TypeReference<ResultsPage<AthleticEvent>>() {});
+    private static final ObjectReader STAFF_MEMBERS = objectMapper.readerFor(new TypeReference<ResultsPage<StaffMember>>() {});
+    private static final ObjectReader DINING_OPTIONS = objectMapper.readerFor(new TypeReference<ResultsPage<DiningOption>>() {});
+    private static final ObjectReader USER = objectMapper.readerFor(User.class);
+    
+    private static final ResponseCache CACHE = new ResponseCache(FrameworkConfig.getInstance().getCacheMaxEntries());
+    private static final Map<String, OrganizationIndex> ORGANIZATION_INDEXES = new ConcurrentHashMap<>();
+    private static final AtomicInteger FAN_OUT_THREAD_INDEX = new AtomicInteger();
+    private static final ExecutorService FAN_OUT = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "media-fan-out-" + FAN_OUT_THREAD_INDEX.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
     
     private final String mediaApiUrl;
+    private final RequestSpecification spec;
     private final AuthService authService;
     
     public MediaService() {
-        ConfigManager.TestConfig config = ConfigManager.getConfig();
-        this.mediaApiUrl = config.mediaApiUrl();
+        this.mediaApiUrl = FrameworkConfig.getInstance().getMediaApiUrl();
         this.authService = new AuthService();
-        
-        RestAssured.baseURI = mediaApiUrl;
+        this.spec = ApiHttpClient.specFor(mediaApiUrl);
+    }
+    
+    /**
+     * Hit, miss and revalidation counts of the shared response cache
+     */
+    public static Map<String, Object> getCacheMetrics() {
+        return CACHE.getMetrics();
     }
     
     /**
@@ -40,27 +89,7 @@ public class MediaService {
         try {
             LOGGER.info("Fetching all organizations for school: {}", schoolId);
             
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .when()
-                .get("/api/v1/p/" + schoolId + "/secondary_organizations/")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
-            
-            List<Organization> organizations = new ArrayList<>();
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            
-            if (responseJson.isArray()) {
-                for (JsonNode orgNode : responseJson) {
-                    organizations.add(new Organization(
-                        orgNode.get("id").asText(),
-                        orgNode.get("name").asText(),
-                        orgNode.has("description") ? orgNode.get("description").asText() : ""
-                    ));
-                }
-            }
+            List<Organization> organizations = ORGANIZATIONS.readValue(get("/api/v1/p/" + schoolId + "/secondary_organizations/"));
             
             LOGGER.info("Retrieved {} organizations", organizations.size());
             return organizations;
@@ -72,14 +101,43 @@ public class MediaService {
     }
     
     /**
-     * Get specific organization by name
+     * Get specific organization by name, from the school's index
      */
     public Organization getOrganization(String schoolId, String organizationName) {
+        OrganizationIndex index = getOrganizationIndex(schoolId);
+        return index != null ? index.findByName(organizationName) : null;
+    }
+    
+    /**
+     * Get specific organization by id, from the school's index
+     */
+    public Organization getOrganizationById(String schoolId, String organizationId) {
+        OrganizationIndex index = getOrganizationIndex(schoolId);
+        return index != null ? index.findById(organizationId) : null;
+    }
+    
+    /**
+     * Organization index of a school, rebuilt from the organizations list once
+     * api.organizationIndex.ttlSeconds have passed. Null if the list could not be fetched.
+     */
+    public OrganizationIndex getOrganizationIndex(String schoolId) {
+        // Per media API as well, since contexts may point at different servers
+        String key = mediaApiUrl + "|" + schoolId;
+        OrganizationIndex current = ORGANIZATION_INDEXES.get(key);
+        if (current != null && !current.isExpired()) {
+            return current;
+        }
+        
+        // Fetched outside the map so a slow request does not block other schools' bins
         List<Organization> organizations = getAllOrganizations(schoolId);
-        return organizations.stream()
-            .filter(org -> org.getName().equalsIgnoreCase(organizationName))
-            .findFirst()
-            .orElse(null);
+        if (organizations.isEmpty()) {
+            // Failed or empty fetch: keep a stale index rather than none
+            return current;
+        }
+        long ttlMillis = FrameworkConfig.getInstance().getOrganizationIndexTtlSeconds() * 1000L;
+        OrganizationIndex rebuilt = new OrganizationIndex(organizations, ttlMillis);
+        // A concurrent rebuild may have published first; either one is fresh
+        return ORGANIZATION_INDEXES.merge(key, rebuilt, (existing, candidate) -> existing.isExpired() ? candidate : existing);
     }
     
     /**
@@ -89,28 +147,8 @@ public class MediaService {
         try {
             LOGGER.info("Fetching live feed for organization: {}", organizationId);
             
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .when()
-                .get("/api/v6/secondary_organizations/" + organizationId + "/live_feeds/")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            
-            List<FeedItem> feedItems = new ArrayList<>();
-            if (responseJson.has("results") && responseJson.get("results").isArray()) {
-                for (JsonNode itemNode : responseJson.get("results")) {
-                    feedItems.add(new FeedItem(
-                        itemNode.get("id").asText(),
-                        itemNode.has("title") ? itemNode.get("title").asText() : "",
-                        itemNode.has("content") ? itemNode.get("content").asText() : "",
-                        itemNode.has("created_at") ? itemNode.get("created_at").asText() : ""
-                    ));
-                }
-            }
+            ResultsPage<FeedItem> page = fetchPage(String.format(LIVE_FEEDS_PATH, organizationId), FEED_ITEMS);
+            List<FeedItem> feedItems = page.getResults();
             
             LOGGER.info("Retrieved {} live feed items", feedItems.size());
             return new LiveFeedResponse(feedItems, true);
@@ -128,29 +166,8 @@ public class MediaService {
         try {
             LOGGER.info("Fetching events for events ID: {}", eventsId);
             
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .when()
-                .get("/api/v2/s/" + eventsId + "/events")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            
-            List<Event> events = new ArrayList<>();
-            if (responseJson.has("results") && responseJson.get("results").isArray()) {
-                for (JsonNode eventNode : responseJson.get("results")) {
-                    events.add(new Event(
-                        eventNode.get("id").asText(),
-                        eventNode.has("title") ? eventNode.get("title").asText() : "",
-                        eventNode.has("description") ? eventNode.get("description").asText() : "",
-                        eventNode.has("start_date") ? eventNode.get("start_date").asText() : "",
-                        eventNode.has("end_date") ? eventNode.get("end_date").asText() : ""
-                    ));
-                }
-            }
+            ResultsPage<Event> page = fetchPage(String.format(EVENTS_PATH, eventsId), EVENTS);
+            List<Event> events = page.getResults();
             
             LOGGER.info("Retrieved {} events", events.size());
             return new EventsResponse(events, true);
@@ -168,28 +185,8 @@ public class MediaService {
         try {
             LOGGER.info("Fetching news for news ID: {}", newsId);
             
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .when()
-                .get("/api/v5/custom_sections/" + newsId + "/articles")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            
-            List<NewsArticle> articles = new ArrayList<>();
-            if (responseJson.has("results") && responseJson.get("results").isArray()) {
-                for (JsonNode articleNode : responseJson.get("results")) {
-                    articles.add(new NewsArticle(
-                        articleNode.get("id").asText(),
-                        articleNode.has("title") ? articleNode.get("title").asText() : "",
-                        articleNode.has("content") ? articleNode.get("content").asText() : "",
-                        articleNode.has("published_date") ? articleNode.get("published_date").asText() : ""
-                    ));
-                }
-            }
+            ResultsPage<NewsArticle> page = fetchPage(String.format(ARTICLES_PATH, newsId), ARTICLES);
+            List<NewsArticle> articles = page.getResults();
             
             LOGGER.info("Retrieved {} news articles", articles.size());
             return new NewsResponse(articles, true);
@@ -207,29 +204,8 @@ public class MediaService {
         try {
             LOGGER.info("Fetching athletics data for organization: {}", organizationId);
             
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .when()
-                .get("/api/v6/secondary_organizations/" + organizationId + "/scores_schedules")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            
-            List<AthleticEvent> events = new ArrayList<>();
-            if (responseJson.has("results") && responseJson.get("results").isArray()) {
-                for (JsonNode eventNode : responseJson.get("results")) {
-                    events.add(new AthleticEvent(
-                        eventNode.get("id").asText(),
-                        eventNode.has("sport") ? eventNode.get("sport").asText() : "",
-                        eventNode.has("opponent") ? eventNode.get("opponent").asText() : "",
-                        eventNode.has("date") ? eventNode.get("date").asText() : "",
-                        eventNode.has("score") ? eventNode.get("score").asText() : ""
-                    ));
-                }
-            }
+            ResultsPage<AthleticEvent> page = fetchPage(String.format(SCORES_PATH, organizationId), ATHLETIC_EVENTS);
+            List<AthleticEvent> events = page.getResults();
             
             LOGGER.info("Retrieved {} athletic events", events.size());
             return new AthleticsResponse(events, true);
@@ -247,29 +223,8 @@ public class MediaService {
         try {
             LOGGER.info("Fetching staff directory for organization: {}", organizationId);
             
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .when()
-                .get("/api/v6/secondary_organizations/" + organizationId + "/directories")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            
-            List<StaffMember> staff = new ArrayList<>();
-            if (responseJson.has("results") && responseJson.get("results").isArray()) {
-                for (JsonNode staffNode : responseJson.get("results")) {
-                    staff.add(new StaffMember(
-                        staffNode.get("id").asText(),
-                        staffNode.has("name") ? staffNode.get("name").asText() : "",
-                        staffNode.has("title") ? staffNode.get("title").asText() : "",
-                        staffNode.has("email") ? staffNode.get("email").asText() : "",
-                        staffNode.has("phone") ? staffNode.get("phone").asText() : ""
-                    ));
-                }
-            }
+            ResultsPage<StaffMember> page = fetchPage(String.format(DIRECTORIES_PATH, organizationId), STAFF_MEMBERS);
+            List<StaffMember> staff = page.getResults();
             
             LOGGER.info("Retrieved {} staff members", staff.size());
             return new StaffResponse(staff, true);
@@ -287,28 +242,8 @@ public class MediaService {
         try {
             LOGGER.info("Fetching dining info for organization: {}", organizationId);
             
-            Response response = given()
-                .header("Content-Type", "application/json")
-                .when()
-                .get("/api/v6/secondary_organizations/" + organizationId + "/dinings")
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
-            
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            
-            List<DiningOption> diningOptions = new ArrayList<>();
-            if (responseJson.has("results") && responseJson.get("results").isArray()) {
-                for (JsonNode diningNode : responseJson.get("results")) {
-                    diningOptions.add(new DiningOption(
-                        diningNode.get("id").asText(),
-                        diningNode.has("name") ? diningNode.get("name").asText() : "",
-                        diningNode.has("description") ? diningNode.get("description").asText() : "",
-                        diningNode.has("hours") ? diningNode.get("hours").asText() : ""
-                    ));
-                }
-            }
+            ResultsPage<DiningOption> page = fetchPage(String.format(DININGS_PATH, organizationId), DINING_OPTIONS);
+            List<DiningOption> diningOptions = page.getResults();
             
             LOGGER.info("Retrieved {} dining options", diningOptions.size());
             return new DiningResponse(diningOptions, true);
@@ -319,6 +254,79 @@ public class MediaService {
         }
     }
     
+    /**
+     * All live feed items, page by page; close the stream when done
+     */
+    public Stream<FeedItem> streamLiveFeed(String organizationId) {
+        return paged(String.format(LIVE_FEEDS_PATH, organizationId), FEED_ITEMS);
+    }
+    
+    /**
+     * All events, page by page; close the stream when done
+     */
+    public Stream<Event> streamEvents(String eventsId) {
+        return paged(String.format(EVENTS_PATH, eventsId), EVENTS);
+    }
+    
+    /**
+     * All news articles, page by page; close the stream when done
+     */
+    public Stream<NewsArticle> streamNews(String newsId) {
+        return paged(String.format(ARTICLES_PATH, newsId), ARTICLES);
+    }
+    
+    /**
+     * All athletic events, page by page; close the stream when done
+     */
+    public Stream<AthleticEvent> streamAthletics(String organizationId) {
+        return paged(String.format(SCORES_PATH, organizationId), ATHLETIC_EVENTS);
+    }
+    
+    /**
+     * All staff members, page by page; close the stream when done
+     */
+    public Stream<StaffMember> streamStaff(String organizationId) {
+        return paged(String.format(DIRECTORIES_PATH, organizationId), STAFF_MEMBERS);
+    }
+    
+    /**
+     * All dining options, page by page; close the stream when done
+     */
+    public Stream<DiningOption> streamDining(String organizationId) {
+        return paged(String.format(DININGS_PATH, organizationId), DINING_OPTIONS);
+    }
+    
+    /**
+     * Fetch all content sections of an organization concurrently, so the snapshot takes
+     * about as long as its slowest section. Events and news live under their own ids;
+     * a null id skips that section.
+     */
+    public OrganizationSnapshot getOrganizationSnapshot(String organizationId, String eventsId, String newsId) {
+        long startNanos = System.nanoTime();
+        Map<OrganizationSnapshot.Section, OrganizationSnapshot.SectionResult> sections = new ConcurrentHashMap<>();
+        
+        CompletableFuture<LiveFeedResponse> liveFeed = section(sections, OrganizationSnapshot.Section.LIVE_FEED,
+            organizationId, this::getLiveFeed, LiveFeedResponse::isSuccess);
+        CompletableFuture<EventsResponse> events = section(sections, OrganizationSnapshot.Section.EVENTS,
+            eventsId, this::getEvents, EventsResponse::isSuccess);
+        CompletableFuture<NewsResponse> news = section(sections, OrganizationSnapshot.Section.NEWS,
+            newsId, this::getNews, NewsResponse::isSuccess);
+        CompletableFuture<AthleticsResponse> athletics = section(sections, OrganizationSnapshot.Section.ATHLETICS,
+            organizationId, this::getAthletics, AthleticsResponse::isSuccess);
+        CompletableFuture<StaffResponse> staff = section(sections, OrganizationSnapshot.Section.STAFF,
+            organizationId, this::getStaff, StaffResponse::isSuccess);
+        CompletableFuture<DiningResponse> dining = section(sections, OrganizationSnapshot.Section.DINING,
+            organizationId, this::getDining, DiningResponse::isSuccess);
+        
+        CompletableFuture.allOf(liveFeed, events, news, athletics, staff, dining).join();
+        
+        OrganizationSnapshot snapshot = new OrganizationSnapshot(organizationId, liveFeed.join(), events.join(),
+            news.join(), athletics.join(), staff.join(), dining.join(), sections,
+            (System.nanoTime() - startNanos) / 1_000_000);
+        LOGGER.info("Retrieved {}", snapshot);
+        return snapshot;
+    }
+    
     /**
      * Get current user information
      */
@@ -327,7 +335,7 @@ public class MediaService {
             AuthService.TokenResponse tokenResponse = authService.getTestUserToken();
             String authToken = tokenResponse.getBearerToken();
             
-            Response response = given()
+            Response response = given(spec)
                 .header("Authorization", authToken)
                 .when()
                 .get("/users/me")
@@ -336,15 +344,7 @@ public class MediaService {
                 .extract()
                 .response();
             
-            JsonNode responseJson = objectMapper.readTree(response.getBody().asString());
-            
-            User user = new User(
-                responseJson.get("id").asText(),
-                responseJson.has("username") ? responseJson.get("username").asText() : "",
-                responseJson.has("email") ? responseJson.get("email").asText() : "",
-                responseJson.has("first_name") ? responseJson.get("first_name").asText() : "",
-                responseJson.has("last_name") ? responseJson.get("last_name").asText() : ""
-            );
+            User user = USER.readValue(response.asInputStream());
             
             LOGGER.info("Retrieved current user: {}", user.getUsername());
             return new UserResponse(user, true);
@@ -355,17 +355,99 @@ public class MediaService {
         }
     }
     
+    private <R> CompletableFuture<R> section(Map<OrganizationSnapshot.Section, OrganizationSnapshot.SectionResult> sections,
+                                             OrganizationSnapshot.Section section, String id,
+                                             Function<String, R> fetch, Predicate<R> isSuccess) {
+        if (id == null) {
+            sections.put(section, new OrganizationSnapshot.SectionResult(OrganizationSnapshot.Status.SKIPPED, 0));
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            long startNanos = System.nanoTime();
+            R response = null;
+            OrganizationSnapshot.Status status = OrganizationSnapshot.Status.FAILED;
+            try {
+                response = fetch.apply(id);
+                if (isSuccess.test(response)) {
+                    status = OrganizationSnapshot.Status.SUCCESS;
+                }
+            } catch (Throwable e) {
+                // The get* methods catch Exception, but a failed RestAssured statusCode() check
+                // is an AssertionError and escapes them
+                LOGGER.warn("Failed to fetch {} of organization {}: {}", section, id, e.toString());
+                response = null;
+            }
+            sections.put(section, new OrganizationSnapshot.SectionResult(status, (System.nanoTime() - startNanos) / 1_000_000));
+            return response;
+        }, FAN_OUT);
+    }
+    
+    private <T> Stream<T> paged(String firstPath, ObjectReader reader) {
+        // Next cursors are absolute URLs, which RestAssured requests as given
+        return new PagedIterator<T>(() -> fetchPage(firstPath, reader), next -> fetchPage(next, reader)).stream();
+    }
+    
+    private <T> ResultsPage<T> fetchPage(String pathOrUrl, ObjectReader reader) {
+        try {
+            return reader.readValue(get(pathOrUrl));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read page " + pathOrUrl, e);
+        }
+    }
+    
+    /**
+     * GET through the response cache, with the TTL configured in api.cache.ttlSeconds for the endpoint
+     */
+    private InputStream get(String pathOrUrl) {
+        String key = pathOrUrl.startsWith("http") ? pathOrUrl : mediaApiUrl + pathOrUrl;
+        long ttlMillis = FrameworkConfig.getInstance().getCacheTtlSeconds().getOrDefault(endpointOf(pathOrUrl), 0) * 1000L;
+        return CACHE.get(key, ttlMillis, conditions -> given(spec)
+            .header("Content-Type", "application/json")
+            .headers(conditions)
+            .when()
+            .get(pathOrUrl)
+            .then()
+            .statusCode(anyOf(is(200), is(304)))
+            .extract()
+            .response());
+    }
+    
+    /**
+     * Last path segment, e.g. "directories" for .../secondary_organizations/42/directories?page=2
+     */
+    private static String endpointOf(String pathOrUrl) {
+        String path = pathOrUrl.split("\\?", 2)[0];
+        String[] segments = path.split("/");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            if (!segments[i].isEmpty()) {
+                return segments[i];
+            }
+        }
+        return path;
+    }
+    
+    /**
+     * Absent and null fields are exposed as empty strings
+     */
+    private static String orEmpty(String value) {
+        return value != null ? value : "";
+    }
+    
     // Data classes for responses
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Organization {
         private final String id;
         private final String name;
         private final String description;
         
-        public Organization(String id, String name, String description) {
+        @JsonCreator
+        public Organization(@JsonProperty("id") String id,
+                            @JsonProperty("name") String name,
+                            @JsonProperty("description") String description) {
             this.id = id;
             this.name = name;
-            this.description = description;
+            this.description = orEmpty(description);
         }
         
         public String getId() { return id; }
@@ -373,17 +455,22 @@ public class MediaService {
         public String getDescription() { return description; }
     }
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class FeedItem {
         private final String id;
         private final String title;
         private final String content;
         private final String createdAt;
         
-        public FeedItem(String id, String title, String content, String createdAt) {
+        @JsonCreator
+        public FeedItem(@JsonProperty("id") String id,
+                        @JsonProperty("title") String title,
+                        @JsonProperty("content") String content,
+                        @JsonProperty("created_at") String createdAt) {
             this.id = id;
-            this.title = title;
-            this.content = content;
-            this.createdAt = createdAt;
+            this.title = orEmpty(title);
+            this.content = orEmpty(content);
+            this.createdAt = orEmpty(createdAt);
         }
         
         public String getId() { return id; }
@@ -392,6 +479,7 @@ public class MediaService {
         public String getCreatedAt() { return createdAt; }
     }
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Event {
         private final String id;
         private final String title;
@@ -399,12 +487,17 @@ public class MediaService {
         private final String startDate;
         private final String endDate;
         
-        public Event(String id, String title, String description, String startDate, String endDate) {
+        @JsonCreator
+        public Event(@JsonProperty("id") String id,
+                     @JsonProperty("title") String title,
+                     @JsonProperty("description") String description,
+                     @JsonProperty("start_date") String startDate,
+                     @JsonProperty("end_date") String endDate) {
             this.id = id;
-            this.title = title;
-            this.description = description;
-            this.startDate = startDate;
-            this.endDate = endDate;
+            this.title = orEmpty(title);
+            this.description = orEmpty(description);
+            this.startDate = orEmpty(startDate);
+            this.endDate = orEmpty(endDate);
         }
         
         public String getId() { return id; }
@@ -414,17 +507,22 @@ public class MediaService {
         public String getEndDate() { return endDate; }
     }
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class NewsArticle {
         private final String id;
         private final String title;
         private final String content;
         private final String publishedDate;
         
-        public NewsArticle(String id, String title, String content, String publishedDate) {
+        @JsonCreator
+        public NewsArticle(@JsonProperty("id") String id,
+                           @JsonProperty("title") String title,
+                           @JsonProperty("content") String content,
+                           @JsonProperty("published_date") String publishedDate) {
             this.id = id;
-            this.title = title;
-            this.content = content;
-            this.publishedDate = publishedDate;
+            this.title = orEmpty(title);
+            this.content = orEmpty(content);
+            this.publishedDate = orEmpty(publishedDate);
         }
         
         public String getId() { return id; }
@@ -433,6 +531,7 @@ public class MediaService {
         public String getPublishedDate() { return publishedDate; }
     }
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class AthleticEvent {
         private final String id;
         private final String sport;
@@ -440,12 +539,17 @@ public class MediaService {
         private final String date;
         private final String score;
         
-        public AthleticEvent(String id, String sport, String opponent, String date, String score) {
+        @JsonCreator
+        public AthleticEvent(@JsonProperty("id") String id,
+                             @JsonProperty("sport") String sport,
+                             @JsonProperty("opponent") String opponent,
+                             @JsonProperty("date") String date,
+                             @JsonProperty("score") String score) {
             this.id = id;
-            this.sport = sport;
-            this.opponent = opponent;
-            this.date = date;
-            this.score = score;
+            this.sport = orEmpty(sport);
+            this.opponent = orEmpty(opponent);
+            this.date = orEmpty(date);
+            this.score = orEmpty(score);
         }
         
         public String getId() { return id; }
@@ -455,6 +559,7 @@ public class MediaService {
         public String getScore() { return score; }
     }
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class StaffMember {
         private final String id;
         private final String name;
@@ -462,12 +567,17 @@ public class MediaService {
         private final String email;
         private final String phone;
         
-        public StaffMember(String id, String name, String title, String email, String phone) {
+        @JsonCreator
+        public StaffMember(@JsonProperty("id") String id,
+                           @JsonProperty("name") String name,
+                           @JsonProperty("title") String title,
+                           @JsonProperty("email") String email,
+                           @JsonProperty("phone") String phone) {
             this.id = id;
-            this.name = name;
-            this.title = title;
-            this.email = email;
-            this.phone = phone;
+            this.name = orEmpty(name);
+            this.title = orEmpty(title);
+            this.email = orEmpty(email);
+            this.phone = orEmpty(phone);
         }
         
         public String getId() { return id; }
@@ -477,17 +587,22 @@ public class MediaService {
         public String getPhone() { return phone; }
     }
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class DiningOption {
         private final String id;
         private final String name;
         private final String description;
         private final String hours;
         
-        public DiningOption(String id, String name, String description, String hours) {
+        @JsonCreator
+        public DiningOption(@JsonProperty("id") String id,
+                            @JsonProperty("name") String name,
+                            @JsonProperty("description") String description,
+                            @JsonProperty("hours") String hours) {
             this.id = id;
-            this.name = name;
-            this.description = description;
-            this.hours = hours;
+            this.name = orEmpty(name);
+            this.description = orEmpty(description);
+            this.hours = orEmpty(hours);
         }
         
         public String getId() { return id; }
@@ -496,6 +611,7 @@ public class MediaService {
         public String getHours() { return hours; }
     }
     
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class User {
         private final String id;
         private final String username;
@@ -503,12 +619,17 @@ public class MediaService {
         private final String firstName;
         private final String lastName;
         
-        public User(String id, String username, String email, String firstName, String lastName) {
+        @JsonCreator
+        public User(@JsonProperty("id") String id,
+                    @JsonProperty("username") String username,
+                    @JsonProperty("email") String email,
+                    @JsonProperty("first_name") String firstName,
+                    @JsonProperty("last_name") String lastName) {
             this.id = id;
-            this.username = username;
-            this.email = email;
-            this.firstName = firstName;
-            this.lastName = lastName;
+            this.username = orEmpty(username);
+            this.email = orEmpty(email);
+            this.firstName = orEmpty(firstName);
+            this.lastName = orEmpty(lastName);
         }
         
         public String getId() { return id; }
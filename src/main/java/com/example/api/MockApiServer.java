@@ -0,0 +1,298 @@
+package com.example.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the auth, backend and media services.
+ *
+ * Each service is mounted under its own prefix (/auth, /backend, /media). In record
+ * mode requests are proxied to the real service and every response is stored as one
+ * JSON file per method, path, query and, for requests other than GET, the stable part
+ * of the body; in replay mode those files are served without any network access, after
+ * a configurable delay. Form posts are keyed by their grant_type and username only, so
+ * each user's POST /oauth/token stays apart while passwords and refresh tokens do not
+ * matter. Other bodies are hashed after replacing this run's {@link UniqueIds} and ISO
+ * timestamps with placeholders, so generated test data replays in any later run.
+ *
+ * Upstream URLs inside text bodies (paging cursors, for instance) are stored with a
+ * placeholder and served pointing at the mock, so follow-up requests stay offline too,
+ * whatever port the mock runs on. Recordings contain real
+ * responses, tokens included; record against test accounts only.
+ */
+public final class MockApiServer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MockApiServer.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    /** Response headers worth replaying; everything else describes the original connection */
+    private static final Set<String> KEPT_HEADERS = Set.of("content-type", "etag", "last-modified", "cache-control", "retry-after");
+    private static final String MOCK_PLACEHOLDER = "${api.mock}";
+    private static final List<String> STABLE_FORM_FIELDS = List.of("grant_type", "username");
+    private static final Pattern GENERATED_ID = Pattern.compile("_" + Pattern.quote(UniqueIds.getRunId()) + "_\\d+");
+    private static final Pattern TIMESTAMP = Pattern.compile(
+        "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}(:\\d{2}(\\.\\d+)?)?(Z|[+-]\\d{2}:?\\d{2})?");
+    /**
+     * Request headers not passed upstream: those java.net.http sets itself, compression, and
+     * conditionals, so that a full body is always recorded and 304s are answered by the mock
+     */
+    private static final Set<String> NOT_FORWARDED = Set.of("connection", "content-length", "expect", "host", "upgrade",
+        "accept-encoding", "if-none-match", "if-modified-since");
+
+    private static MockApiServer instance;
+
+    public enum Mode {
+        OFF, RECORD, REPLAY
+    }
+
+    private final Mode mode;
+    private final Path directory;
+    private final long latencyMillis;
+    private final Map<String, String> upstreams;
+    private final HttpServer server;
+    private final HttpClient client;
+    private final String baseUrl;
+
+    private MockApiServer(Mode mode, int port, Path directory, long latencyMillis, Map<String, String> upstreams)
+            throws IOException {
+        this.mode = mode;
+        this.directory = directory;
+        this.latencyMillis = latencyMillis;
+        this.upstreams = upstreams;
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-mock-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+        for (String prefix : upstreams.keySet()) {
+            server.createContext("/" + prefix, exchange -> handle(prefix, exchange));
+        }
+    }
+
+    /**
+     * Start the process-wide mock server once; later calls return the running one.
+     *
+     * @param upstreams real base URL per prefix, e.g. "auth" to the configured auth.url
+     */
+    public static synchronized MockApiServer start(Mode mode, int port, String directory, long latencyMillis,
+                                                   Map<String, String> upstreams) {
+        if (instance == null) {
+            try {
+                instance = new MockApiServer(mode, port, Paths.get(directory), latencyMillis, new LinkedHashMap<>(upstreams));
+                instance.server.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> instance.server.stop(0), "api-mock-shutdown"));
+                LOGGER.info("API mock server in {} mode at {} (recordings in {})", mode, instance.baseUrl, directory);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to start API mock server on port " + port, e);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Base URL under which the service with the given prefix is served
+     */
+    public String urlFor(String prefix) {
+        return baseUrl + "/" + prefix;
+    }
+
+    public Mode getMode() { return mode; }
+
+    private void handle(String prefix, HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getRawPath().substring(prefix.length() + 1);
+            String query = exchange.getRequestURI().getRawQuery();
+            String pathAndQuery = query != null ? path + "?" + query : path;
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            String key = requestKey(exchange.getRequestMethod(), "/" + prefix + pathAndQuery,
+                exchange.getRequestHeaders().getFirst("Content-Type"), requestBody);
+            Path file = directory.resolve(prefix).resolve(fileName(key));
+
+            Recording recording;
+            if (mode == Mode.RECORD) {
+                recording = proxy(prefix, exchange, key, pathAndQuery, requestBody);
+                Files.createDirectories(file.getParent());
+                objectMapper.writeValue(file.toFile(), recording);
+            } else if (Files.exists(file)) {
+                recording = objectMapper.readValue(file.toFile(), Recording.class);
+                pause();
+            } else {
+                LOGGER.warn("No recording for {}", key);
+                send(exchange, 404, Map.of("content-type", "text/plain"), ("No recording for " + key).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            String etag = recording.getHeaders().get("etag");
+            if (ifNoneMatch != null && ifNoneMatch.equals(etag)) {
+                send(exchange, 304, recording.getHeaders(), new byte[0]);
+            } else {
+                send(exchange, recording.getStatus(), recording.getHeaders(), recording.getBody().replace(MOCK_PLACEHOLDER, baseUrl).getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (Exception e) {
+            LOGGER.error("API mock failed to serve {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            send(exchange, 502, Map.of("content-type", "text/plain"), String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Recording proxy(String prefix, HttpExchange exchange, String key, String pathAndQuery, byte[] requestBody)
+            throws IOException, InterruptedException {
+        String upstream = upstreams.get(prefix);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upstream + pathAndQuery))
+            .method(exchange.getRequestMethod(), requestBody.length > 0
+                ? HttpRequest.BodyPublishers.ofByteArray(requestBody) : HttpRequest.BodyPublishers.noBody());
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            if (!NOT_FORWARDED.contains(header.getKey().toLowerCase())) {
+                header.getValue().forEach(value -> request.header(header.getKey(), value));
+            }
+        }
+
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (KEPT_HEADERS.contains(name.toLowerCase()) && !values.isEmpty()) {
+                headers.put(name.toLowerCase(), values.get(0));
+            }
+        });
+        LOGGER.debug("Recorded {} -> {}", key, response.statusCode());
+        return new Recording(key, response.statusCode(), headers, rewriteUpstreamUrls(response.body()));
+    }
+
+    private String rewriteUpstreamUrls(String body) {
+        String rewritten = body;
+        for (Map.Entry<String, String> upstream : upstreams.entrySet()) {
+            rewritten = rewritten.replace(upstream.getValue(), MOCK_PLACEHOLDER + "/" + upstream.getKey());
+        }
+        return rewritten;
+    }
+
+    private void pause() throws InterruptedException {
+        if (latencyMillis > 0) {
+            Thread.sleep(latencyMillis);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Map<String, String> headers, byte[] body) throws IOException {
+        headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        boolean noBody = status == 304 || body.length == 0;
+        exchange.sendResponseHeaders(status, noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Recording key of a request: method and path, plus the stable part of a non-GET body
+     */
+    static String requestKey(String method, String pathAndQuery, String contentType, byte[] body) {
+        String key = method + " " + pathAndQuery;
+        if ("GET".equals(method) || body.length == 0) {
+            return key;
+        }
+        String text = new String(body, StandardCharsets.UTF_8);
+        if (contentType != null && contentType.toLowerCase().startsWith("application/x-www-form-urlencoded")) {
+            String fields = stableFormFields(text);
+            if (!fields.isEmpty()) {
+                return key + " form:" + fields;
+            }
+        }
+        String normalized = TIMESTAMP.matcher(GENERATED_ID.matcher(text).replaceAll("_{id}")).replaceAll("{timestamp}");
+        return key + " body:" + sha256(normalized.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String stableFormFields(String form) {
+        Map<String, String> fields = new TreeMap<>();
+        for (String pair : form.split("&")) {
+            String[] parts = pair.split("=", 2);
+            String name = URLDecoder.decode(parts[0], StandardCharsets.UTF_8);
+            if (STABLE_FORM_FIELDS.contains(name)) {
+                fields.put(name, parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "");
+            }
+        }
+        StringBuilder key = new StringBuilder();
+        fields.forEach((name, value) -> key.append(key.length() > 0 ? "&" : "").append(name).append('=').append(value));
+        return key.toString();
+    }
+
+    private static String fileName(String key) {
+        return sha256(key.getBytes(StandardCharsets.UTF_8)).substring(0, 24) + ".json";
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class Recording {
+        private final String request;
+        private final int status;
+        private final Map<String, String> headers;
+        private final String body;
+
+        @JsonCreator
+        Recording(@JsonProperty("request") String request, @JsonProperty("status") int status,
+                  @JsonProperty("headers") Map<String, String> headers, @JsonProperty("body") String body) {
+            this.request = request;
+            this.status = status;
+            this.headers = headers != null ? headers : Map.of();
+            this.body = body != null ? body : "";
+        }
+
+        @JsonProperty("request")
+        String getRequest() { return request; }
+        @JsonProperty("status")
+        int getStatus() { return status; }
+        @JsonProperty("headers")
+        Map<String, String> getHeaders() { return headers; }
+        @JsonProperty("body")
+        String getBody() { return body; }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.api;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lookup tables over one school's organizations: by id, exact name and normalized name.
+ * Built once from the organizations list and replaced when {@link #isExpired()}.
+ */
+public class OrganizationIndex {
+    private final Map<String, MediaService.Organization> byId = new HashMap<>();
+    private final Map<String, MediaService.Organization> byName = new HashMap<>();
+    private final Map<String, MediaService.Organization> byNormalizedName = new HashMap<>();
+    private final List<MediaService.Organization> organizations;
+    private final long expiresAtMillis;
+
+    public OrganizationIndex(List<MediaService.Organization> organizations, long ttlMillis) {
+        this.organizations = Collections.unmodifiableList(organizations);
+        this.expiresAtMillis = System.currentTimeMillis() + ttlMillis;
+        for (MediaService.Organization organization : organizations) {
+            // First one wins, as with the linear scan this replaces
+            byId.putIfAbsent(organization.getId(), organization);
+            byName.putIfAbsent(organization.getName(), organization);
+            byNormalizedName.putIfAbsent(normalize(organization.getName()), organization);
+        }
+    }
+
+    /**
+     * Exact name first, then ignoring case, accents, punctuation and extra whitespace
+     */
+    public MediaService.Organization findByName(String name) {
+        MediaService.Organization organization = byName.get(name);
+        return organization != null ? organization : byNormalizedName.get(normalize(name));
+    }
+
+    public MediaService.Organization findById(String id) {
+        return byId.get(id);
+    }
+
+    public List<MediaService.Organization> getOrganizations() { return organizations; }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAtMillis;
+    }
+
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD).replaceAll("\\p{M}", "");
+        return decomposed.toLowerCase(Locale.ROOT).replaceAll("[^\\p{Alnum}]+", " ").trim();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.api;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * All content sections of one organization, fetched concurrently by
+ * {@link MediaService#getOrganizationSnapshot(String, String, String)}.
+ */
+public class OrganizationSnapshot {
+
+    public enum Section {
+        LIVE_FEED, EVENTS, NEWS, ATHLETICS, STAFF, DINING
+    }
+
+    public enum Status {
+        SUCCESS, FAILED, SKIPPED
+    }
+
+    private final String organizationId;
+    private final MediaService.LiveFeedResponse liveFeed;
+    private final MediaService.EventsResponse events;
+    private final MediaService.NewsResponse news;
+    private final MediaService.AthleticsResponse athletics;
+    private final MediaService.StaffResponse staff;
+    private final MediaService.DiningResponse dining;
+    private final Map<Section, SectionResult> sections;
+    private final long elapsedMillis;
+
+    OrganizationSnapshot(String organizationId, MediaService.LiveFeedResponse liveFeed, MediaService.EventsResponse events,
+                         MediaService.NewsResponse news, MediaService.AthleticsResponse athletics,
+                         MediaService.StaffResponse staff, MediaService.DiningResponse dining,
+                         Map<Section, SectionResult> sections, long elapsedMillis) {
+        this.organizationId = organizationId;
+        this.liveFeed = liveFeed;
+        this.events = events;
+        this.news = news;
+        this.athletics = athletics;
+        this.staff = staff;
+        this.dining = dining;
+        this.sections = Collections.unmodifiableMap(new EnumMap<>(sections));
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getOrganizationId() { return organizationId; }
+    /** Null when the section was skipped or its request threw, as for all getters below */
+    public MediaService.LiveFeedResponse getLiveFeed() { return liveFeed; }
+    public MediaService.EventsResponse getEvents() { return events; }
+    public MediaService.NewsResponse getNews() { return news; }
+    public MediaService.AthleticsResponse getAthletics() { return athletics; }
+    public MediaService.StaffResponse getStaff() { return staff; }
+    public MediaService.DiningResponse getDining() { return dining; }
+    public Map<Section, SectionResult> getSections() { return sections; }
+    public SectionResult getSection(Section section) { return sections.get(section); }
+    /** Wall-clock time of the whole fan-out, i.e. roughly the slowest section */
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    public boolean isComplete() {
+        return sections.values().stream().noneMatch(result -> result.getStatus() == Status.FAILED);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OrganizationSnapshot{organizationId=%s, elapsedMillis=%d, sections=%s}",
+            organizationId, elapsedMillis, sections);
+    }
+
+    public static class SectionResult {
+        private final Status status;
+        private final long elapsedMillis;
+
+        public SectionResult(Status status, long elapsedMillis) {
+            this.status = status;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public Status getStatus() { return status; }
+        public long getElapsedMillis() { return elapsedMillis; }
+
+        @Override
+        public String toString() {
+            return status + " in " + elapsedMillis + " ms";
+        }
+    }
+}
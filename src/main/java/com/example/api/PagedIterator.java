@@ -0,0 +1,119 @@
+package com.example.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily walks a paged listing by following each page's next cursor.
+ *
+ * Nothing is fetched until the first element is requested. While the caller consumes
+ * page N, page N+1 is already being fetched in the background; no further pages are
+ * requested ahead. Closing the iterator (or the stream from {@link #stream()}) stops
+ * it, so a search that found its match does not walk the rest of the listing.
+ */
+public class PagedIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PagedIterator.class);
+    private static final AtomicInteger THREAD_INDEX = new AtomicInteger();
+    private static final ExecutorService PREFETCH = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "api-prefetch-" + THREAD_INDEX.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Supplier<ResultsPage<T>> firstPage;
+    private final Function<String, ResultsPage<T>> nextPage;
+    private Iterator<T> current;
+    private CompletableFuture<ResultsPage<T>> prefetched;
+    private boolean started;
+    private boolean closed;
+    private int pages;
+
+    /**
+     * @param firstPage fetches the first page
+     * @param nextPage  fetches the page behind a next cursor
+     */
+    public PagedIterator(Supplier<ResultsPage<T>> firstPage, Function<String, ResultsPage<T>> nextPage) {
+        this.firstPage = firstPage;
+        this.nextPage = nextPage;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (!started) {
+            started = true;
+            accept(firstPage.get());
+        }
+        while (!current.hasNext()) {
+            if (prefetched == null) {
+                return false;
+            }
+            CompletableFuture<ResultsPage<T>> pending = prefetched;
+            prefetched = null;
+            accept(await(pending));
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Elements of all pages; closing the stream stops paging
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+            .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            if (prefetched != null) {
+                // The request itself may still complete, its page is simply dropped
+                prefetched.cancel(true);
+                prefetched = null;
+            }
+            LOGGER.debug("Paging closed after {} pages", pages);
+        }
+    }
+
+    private void accept(ResultsPage<T> page) {
+        pages++;
+        current = page.getResults().iterator();
+        String next = page.getNext();
+        if (next != null && !next.isEmpty()) {
+            prefetched = CompletableFuture.supplyAsync(() -> nextPage.apply(next), PREFETCH);
+        }
+    }
+
+    private static <T> ResultsPage<T> await(CompletableFuture<ResultsPage<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+}
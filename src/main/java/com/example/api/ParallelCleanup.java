@@ -0,0 +1,190 @@
+package com.example.api;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs list and delete calls of a cleanup on a bounded pool of workers.
+ *
+ * All workers share one back-off delay: a 429 or 5xx doubles it (or applies the
+ * server's Retry-After) and the request is retried, every success halves it again.
+ * The whole cleanup therefore slows down together when the server pushes back,
+ * instead of each worker hammering it independently.
+ */
+public class ParallelCleanup implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelCleanup.class);
+    private static final long INITIAL_BACKOFF_MILLIS = 200;
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+    private final ExecutorService executor;
+    private final int maxRetries;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong backoffMillis = new AtomicLong();
+    private final AtomicInteger deleted = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger listFailures = new AtomicInteger();
+    private final List<CompletableFuture<?>> pending = new ArrayList<>();
+
+    public ParallelCleanup(int parallelism, int maxRetries) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "api-cleanup-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * List ids with {@code request} and delete each of them with {@code delete}, all on the pool
+     */
+    public void listAndDelete(String description, Supplier<Response> request, Function<Response, List<String>> ids,
+                              Function<String, Supplier<Response>> delete) {
+        track(CompletableFuture.supplyAsync(() -> call(request), executor)
+            .thenAccept(response -> {
+                if (response.getStatusCode() != 200) {
+                    listFailures.incrementAndGet();
+                    LOGGER.warn("Listing {} failed with status {}", description, response.getStatusCode());
+                    return;
+                }
+                for (String id : ids.apply(response)) {
+                    delete(description, id, delete.apply(id));
+                }
+            })
+            .exceptionally(e -> {
+                listFailures.incrementAndGet();
+                LOGGER.error("Listing {} failed", description, e);
+                return null;
+            }));
+    }
+
+    public void delete(String description, String id, Supplier<Response> request) {
+        track(CompletableFuture.runAsync(() -> {
+            try {
+                Response response = call(request);
+                if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
+                    deleted.incrementAndGet();
+                    LOGGER.debug("Deleted {} {}", description, id);
+                } else {
+                    failed.incrementAndGet();
+                    LOGGER.warn("Failed to delete {} {}: status {}", description, id, response.getStatusCode());
+                }
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                LOGGER.error("Failed to delete {} {}", description, id, e);
+            }
+        }, executor));
+    }
+
+    /**
+     * Wait for every listed and scheduled delete, including deletes scheduled while waiting
+     */
+    public CleanupSummary awaitSummary() {
+        while (true) {
+            List<CompletableFuture<?>> batch;
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    break;
+                }
+                batch = new ArrayList<>(pending);
+                pending.clear();
+            }
+            CompletableFuture.allOf(batch.toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+        }
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        return new CleanupSummary(deleted.get(), failed.get(), listFailures.get(), elapsedMillis);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void track(CompletableFuture<?> future) {
+        synchronized (pending) {
+            pending.add(future);
+        }
+    }
+
+    private Response call(Supplier<Response> request) {
+        for (int attempt = 0; ; attempt++) {
+            pause();
+            Response response = request.get();
+            int status = response.getStatusCode();
+            if ((status == 429 || status >= 500) && attempt < maxRetries) {
+                long delay = backoffMillis.updateAndGet(current ->
+                    Math.min(MAX_BACKOFF_MILLIS, Math.max(retryAfterMillis(response), current == 0 ? INITIAL_BACKOFF_MILLIS : current * 2)));
+                LOGGER.info("Server answered {}, backing off {} ms (attempt {} of {})", status, delay, attempt + 1, maxRetries);
+                continue;
+            }
+            backoffMillis.updateAndGet(current -> current / 2 < INITIAL_BACKOFF_MILLIS / 4 ? 0 : current / 2);
+            return response;
+        }
+    }
+
+    private void pause() {
+        long delay = backoffMillis.get();
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Cleanup interrupted", e);
+            }
+        }
+    }
+
+    private static long retryAfterMillis(Response response) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException e) {
+                // HTTP-date form, fall back to exponential back-off
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Outcome of a cleanup run
+     */
+    public static class CleanupSummary {
+        private final int deleted;
+        private final int failed;
+        private final int listFailures;
+        private final long elapsedMillis;
+
+        public CleanupSummary(int deleted, int failed, int listFailures, long elapsedMillis) {
+            this.deleted = deleted;
+            this.failed = failed;
+            this.listFailures = listFailures;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getDeleted() { return deleted; }
+        public int getFailed() { return failed; }
+        /** Listings that failed, so their entities were never even attempted */
+        public int getListFailures() { return listFailures; }
+        public long getElapsedMillis() { return elapsedMillis; }
+
+        public boolean isSuccess() { return failed == 0 && listFailures == 0; }
+
+        @Override
+        public String toString() {
+            return String.format("CleanupSummary{deleted=%d, failed=%d, listFailures=%d, elapsedMillis=%d}",
+                deleted, failed, listFailures, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spaces calls evenly to at most a given number per second across all threads.
+ * A rate of zero or less disables limiting.
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private final AtomicLong nextSlotNanos = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    /**
+     * Block until the caller's slot is due
+     */
+    public void acquire() {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        // Claim the next free slot; idle time is not banked beyond the current moment
+        long slot = nextSlotNanos.getAndUpdate(next -> Math.max(next, now) + intervalNanos);
+        long waitNanos = Math.max(slot, now) - now;
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for rate limiter", e);
+            }
+        }
+    }
+}
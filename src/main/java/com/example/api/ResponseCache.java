@@ -0,0 +1,127 @@
+package com.example.api;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of GET response bodies with a TTL per entry.
+ *
+ * A fresh entry is served without a request. A stale entry that carried an ETag or
+ * Last-Modified is revalidated with If-None-Match / If-Modified-Since; a 304 keeps the
+ * stored body for another TTL, anything else replaces it. Entries without validators
+ * are simply refetched. Concurrent misses for the same key are not coalesced.
+ */
+public class ResponseCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCache.class);
+
+    private final Map<String, CachedBody> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedBody> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Body for {@code key}, from the cache or from {@code request}.
+     *
+     * @param ttlMillis how long a body is served without asking the server; 0 or less bypasses the cache
+     * @param request   performs the GET with the given conditional headers; must accept 200 and 304
+     */
+    public InputStream get(String key, long ttlMillis, Function<Map<String, String>, Response> request) {
+        if (ttlMillis <= 0) {
+            return request.apply(Map.of()).asInputStream();
+        }
+
+        CachedBody cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        long now = System.currentTimeMillis();
+        if (cached != null && now < cached.expiresAtMillis) {
+            hits.incrementAndGet();
+            return new ByteArrayInputStream(cached.body);
+        }
+
+        Map<String, String> conditions = new HashMap<>();
+        if (cached != null && cached.etag != null) {
+            conditions.put("If-None-Match", cached.etag);
+        }
+        if (cached != null && cached.lastModified != null) {
+            conditions.put("If-Modified-Since", cached.lastModified);
+        }
+
+        Response response = request.apply(conditions);
+        CachedBody stored;
+        if (response.getStatusCode() == 304 && cached != null) {
+            revalidated.incrementAndGet();
+            LOGGER.debug("Revalidated {}", key);
+            stored = new CachedBody(cached.body, orElse(response.getHeader("ETag"), cached.etag),
+                orElse(response.getHeader("Last-Modified"), cached.lastModified), now + ttlMillis);
+        } else {
+            misses.incrementAndGet();
+            stored = new CachedBody(response.asByteArray(), response.getHeader("ETag"),
+                response.getHeader("Last-Modified"), now + ttlMillis);
+        }
+        synchronized (entries) {
+            entries.put(key, stored);
+        }
+        return new ByteArrayInputStream(stored.body);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("hits", hits.get());
+        metrics.put("misses", misses.get());
+        metrics.put("revalidated", revalidated.get());
+        metrics.put("evictions", evictions.get());
+        synchronized (entries) {
+            metrics.put("entries", entries.size());
+        }
+        return metrics;
+    }
+
+    private static String orElse(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private static class CachedBody {
+        private final byte[] body;
+        private final String etag;
+        private final String lastModified;
+        private final long expiresAtMillis;
+
+        CachedBody(byte[] body, String etag, String lastModified, long expiresAtMillis) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a media API listing: {"results": [...], "next": "..."}
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ResultsPage<T> {
+    private final List<T> results;
+    private final String next;
+
+    @JsonCreator
+    public ResultsPage(@JsonProperty("results") List<T> results, @JsonProperty("next") String next) {
+        this.results = results != null ? results : Collections.emptyList();
+        this.next = next;
+    }
+
+    public List<T> getResults() { return results; }
+    /** URL of the following page, null on the last one */
+    public String getNext() { return next; }
+}
@@ -0,0 +1,171 @@
+package com.example.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide OAuth token cache keyed by auth server and user.
+ *
+ * Tokens are reused until shortly before expires_in runs out. In the refresh window
+ * one caller renews the token with its refresh token while the others keep using the
+ * still valid one; once expired, concurrent callers for the same user share a single
+ * in-flight request.
+ */
+public final class TokenCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenCache.class);
+    private static final Map<String, CompletableFuture<CachedToken>> TOKENS = new ConcurrentHashMap<>();
+
+    /** Start refreshing this long before the token expires */
+    private static final long REFRESH_WINDOW_MILLIS = 60_000;
+    /** Never hand out a token with less lifetime than this left */
+    private static final long EXPIRY_SKEW_MILLIS = 5_000;
+
+    private static volatile LongSupplier clock = System::currentTimeMillis;
+
+    private TokenCache() {
+    }
+
+    /**
+     * Cached token for the user, obtained with {@code passwordGrant} or renewed with
+     * {@code refresh} as needed. Unsuccessful responses are returned but not cached.
+     */
+    public static AuthService.TokenResponse get(String authUrl, String username,
+                                                Supplier<AuthService.TokenResponse> passwordGrant,
+                                                Function<String, AuthService.TokenResponse> refresh) {
+        String key = authUrl + "|" + username;
+        while (true) {
+            CompletableFuture<CachedToken> current = TOKENS.get(key);
+            if (current != null && !current.isDone()) {
+                // Someone is already fetching this user's token
+                CachedToken shared = awaitQuietly(current);
+                if (shared != null) {
+                    return shared.response;
+                }
+                continue;
+            }
+
+            CachedToken cached = current != null ? current.getNow(null) : null;
+            if (cached != null && cached.isUsable()) {
+                if (!cached.isInRefreshWindow() || !cached.refreshing.compareAndSet(false, true)) {
+                    return cached.response;
+                }
+                // This caller renews ahead of expiry, the others keep the current token meanwhile
+                return fetch(key, current, cached, passwordGrant, refresh);
+            }
+
+            CompletableFuture<CachedToken> mine = new CompletableFuture<>();
+            boolean owner = current == null ? TOKENS.putIfAbsent(key, mine) == null : TOKENS.replace(key, current, mine);
+            if (owner) {
+                return complete(key, mine, cached, passwordGrant, refresh);
+            }
+        }
+    }
+
+    /**
+     * Replace the wall clock used for expiry, for tests
+     */
+    static void setClock(LongSupplier millis) {
+        clock = millis;
+    }
+
+    /**
+     * Drop the cached token, e.g. after the server rejected it
+     */
+    public static void invalidate(String authUrl, String username) {
+        TOKENS.remove(authUrl + "|" + username);
+    }
+
+    private static AuthService.TokenResponse fetch(String key, CompletableFuture<CachedToken> current, CachedToken previous,
+                                                   Supplier<AuthService.TokenResponse> passwordGrant,
+                                                   Function<String, AuthService.TokenResponse> refresh) {
+        try {
+            AuthService.TokenResponse response = obtain(previous, passwordGrant, refresh);
+            if (response.isSuccess()) {
+                TOKENS.replace(key, current, CompletableFuture.completedFuture(new CachedToken(response)));
+                return response;
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Early token renewal failed: {}", e.getMessage());
+        }
+        // Keep serving the old token until it expires; a later caller may retry the renewal
+        previous.refreshing.set(false);
+        return previous.response;
+    }
+
+    private static AuthService.TokenResponse complete(String key, CompletableFuture<CachedToken> mine, CachedToken previous,
+                                                      Supplier<AuthService.TokenResponse> passwordGrant,
+                                                      Function<String, AuthService.TokenResponse> refresh) {
+        try {
+            AuthService.TokenResponse response = obtain(previous, passwordGrant, refresh);
+            if (!response.isSuccess()) {
+                // Removed before completing so no caller ever finds a failed entry
+                TOKENS.remove(key, mine);
+            }
+            mine.complete(new CachedToken(response));
+            return response;
+        } catch (RuntimeException e) {
+            TOKENS.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static AuthService.TokenResponse obtain(CachedToken previous,
+                                                    Supplier<AuthService.TokenResponse> passwordGrant,
+                                                    Function<String, AuthService.TokenResponse> refresh) {
+        String refreshToken = previous != null ? previous.response.getRefreshToken() : null;
+        if (refreshToken != null) {
+            try {
+                AuthService.TokenResponse refreshed = refresh.apply(refreshToken);
+                if (refreshed.isSuccess()) {
+                    return refreshed;
+                }
+                LOGGER.info("Token refresh rejected with status {}, using password grant", refreshed.getStatusCode());
+            } catch (RuntimeException e) {
+                LOGGER.info("Token refresh failed, using password grant: {}", e.getMessage());
+            }
+        }
+        return passwordGrant.get();
+    }
+
+    private static CachedToken awaitQuietly(CompletableFuture<CachedToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // The fetching caller reports the failure; the loop starts a new request
+            return null;
+        }
+    }
+
+    private static class CachedToken {
+        private final AuthService.TokenResponse response;
+        private final long expiresAtMillis;
+        private final long refreshAtMillis;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        CachedToken(AuthService.TokenResponse response) {
+            long lifetimeMillis = response.getExpiresIn() * 1000L;
+            this.response = response;
+            this.expiresAtMillis = clock.getAsLong() + lifetimeMillis;
+            // Short-lived tokens are renewed at half-life rather than on every call
+            this.refreshAtMillis = expiresAtMillis - Math.min(REFRESH_WINDOW_MILLIS, lifetimeMillis / 2);
+        }
+
+        boolean isUsable() {
+            return response.isSuccess() && clock.getAsLong() < expiresAtMillis - EXPIRY_SKEW_MILLIS;
+        }
+
+        boolean isInRefreshWindow() {
+            return clock.getAsLong() >= refreshAtMillis;
+        }
+    }
+}
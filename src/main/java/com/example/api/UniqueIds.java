@@ -0,0 +1,27 @@
+package com.example.api;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collision-free identifiers for test data.
+ *
+ * A random run prefix separates parallel JVMs and CI jobs, a counter separates
+ * calls within the run. Unlike timestamps, two entities created in the same
+ * millisecond never share an id.
+ */
+public final class UniqueIds {
+    private static final String RUN_ID = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private UniqueIds() {
+    }
+
+    public static String next(String prefix) {
+        return prefix + "_" + RUN_ID + "_" + COUNTER.incrementAndGet();
+    }
+
+    public static String getRunId() {
+        return RUN_ID;
+    }
+}
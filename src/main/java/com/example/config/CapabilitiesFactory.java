@@ -1,5 +1,6 @@
 package com.example.config;
 
+import com.mobile.automation.core.driver.CapabilityProfile;
 import io.appium.java_client.remote.MobileCapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.slf4j.Logger;
@@ -175,6 +176,14 @@ public class CapabilitiesFactory {
         }
     }
     
+    /**
+     * Create capabilities for a device using a session start profile
+     */
+    public static DesiredCapabilities createCapabilities(String platform, String deviceName, String platformVersion,
+                                                        String appIdentifier, CapabilityProfile profile) {
+        return profile.apply(createCapabilities(platform, deviceName, platformVersion, appIdentifier));
+    }
+    
     /**
      * Add common capabilities for both platforms
      */
@@ -2,12 +2,17 @@ package com.example.config;
 
 import org.aeonbits.owner.Config;
 import org.aeonbits.owner.ConfigFactory;
+import org.aeonbits.owner.Factory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Configuration manager using Owner library for property management
  */
 public class ConfigManager {
     private static TestConfig testConfig;
+    private static final Map<String, TestConfig> configsByEnv = new ConcurrentHashMap<>();
     
     static {
         testConfig = ConfigFactory.create(TestConfig.class);
@@ -17,6 +22,20 @@ public class ConfigManager {
         return testConfig;
     }
     
+    /**
+     * Get configuration for an explicit environment instead of the global ${env} system property
+     */
+    public static TestConfig getConfig(String env) {
+        if (env == null) {
+            return testConfig;
+        }
+        return configsByEnv.computeIfAbsent(env, key -> {
+            Factory factory = ConfigFactory.newInstance();
+            factory.setProperty("env", key);
+            return factory.create(TestConfig.class);
+        });
+    }
+    
     @Config.Sources({
         "classpath:config/${env}.properties",
         "classpath:config/default.properties"
@@ -83,6 +102,72 @@ public class ConfigManager {
         @Key("client.secret")
         String clientSecret();
         
+        @Key("api.http.maxTotal")
+        @DefaultValue("50")
+        int httpMaxTotal();
+        
+        @Key("api.http.maxPerRoute")
+        @DefaultValue("10")
+        int httpMaxPerRoute();
+        
+        @Key("api.http.routeLimits")
+        @DefaultValue("")
+        String httpRouteLimits();
+        
+        @Key("api.cleanup.parallelism")
+        @DefaultValue("8")
+        int cleanupParallelism();
+        
+        @Key("api.cleanup.maxRetries")
+        @DefaultValue("4")
+        int cleanupMaxRetries();
+        
+        @Key("api.cache.maxEntries")
+        @DefaultValue("200")
+        int cacheMaxEntries();
+        
+        @Key("api.cache.ttlSeconds")
+        @DefaultValue("secondary_organizations=600,directories=600,dinings=600,scores_schedules=300")
+        String cacheTtlSeconds();
+        
+        @Key("api.organizationIndex.ttlSeconds")
+        @DefaultValue("600")
+        int organizationIndexTtlSeconds();
+        
+        @Key("api.mock.mode")
+        @DefaultValue("off")
+        String mockMode();
+        
+        @Key("api.mock.port")
+        @DefaultValue("0")
+        int mockPort();
+        
+        @Key("api.mock.dir")
+        @DefaultValue("target/api-recordings")
+        String mockDir();
+        
+        @Key("api.mock.latencyMillis")
+        @DefaultValue("0")
+        long mockLatencyMillis();
+        
+        @Key("api.seed.parallelism")
+        @DefaultValue("4")
+        int seedParallelism();
+        
+        @Key("api.seed.ratePerSecond")
+        @DefaultValue("5")
+        double seedRatePerSecond();
+        
+        @Key("auth.token.validation")
+        @DefaultValue("local")
+        String tokenValidation();
+        
+        @Key("auth.jwks.url")
+        String jwksUrl();
+        
+        @Key("auth.jwt.audience")
+        String jwtAudience();
+        
         // Test Data
         @Key("test.user.username")
         String testUsername();
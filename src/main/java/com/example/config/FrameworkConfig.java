@@ -0,0 +1,209 @@
+package com.example.config;
+
+import com.example.api.MockApiServer;
+import com.mobile.automation.config.ConfigContext;
+import com.mobile.automation.config.MobileConfig;
+import com.mobile.automation.config.MobileConfigSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Single read-only view over both configuration systems.
+ *
+ * Values are resolved once, in this order of precedence:
+ * 1. JVM system properties
+ * 2. MobileConfig files (mobile.properties, platform and environment overrides)
+ * 3. Owner-based ConfigManager files (${env}.properties, default.properties)
+ *
+ * The one exception is environment, which is taken from the Owner files as before:
+ * MobileConfig always carries its context environment ("local" by default), which
+ * would otherwise hide the Owner value.
+ *
+ * API services read the resolved fields directly, so no Owner proxy call or
+ * variable expansion happens inside request methods. One instance is kept per
+ * {@link ConfigContext}.
+ */
+public final class FrameworkConfig {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FrameworkConfig.class);
+    private static final Map<ConfigContext, FrameworkConfig> INSTANCES = new ConcurrentHashMap<>();
+
+    private final String appiumServerUrl;
+    private final String apiBaseUrl;
+    private final String authUrl;
+    private final String mediaApiUrl;
+    private final String backendApiUrl;
+    private final String clientSecret;
+    private final int httpMaxTotal;
+    private final int httpMaxPerRoute;
+    private final Map<String, Integer> httpRouteLimits;
+    private final int cleanupParallelism;
+    private final int cleanupMaxRetries;
+    private final int cacheMaxEntries;
+    private final Map<String, Integer> cacheTtlSeconds;
+    private final int organizationIndexTtlSeconds;
+    private final int seedParallelism;
+    private final double seedRatePerSecond;
+    private final String tokenValidation;
+    private final String jwksUrl;
+    private final String jwtAudience;
+    private final String testUsername;
+    private final String testPassword;
+    private final String staffUsername;
+    private final String staffPassword;
+    private final String iosClassId;
+    private final String androidClassId;
+    private final String userRoomsId;
+    private final String environment;
+
+    private FrameworkConfig(MobileConfigSnapshot mobile, ConfigManager.TestConfig owner) {
+        this.appiumServerUrl = resolve(mobile, "appium.server.url", owner::appiumServerUrl);
+        this.apiBaseUrl = resolve(mobile, "api.base.url", owner::apiBaseUrl);
+        Map<String, String> serviceUrls = new LinkedHashMap<>();
+        serviceUrls.put("auth", resolve(mobile, "auth.url", owner::authUrl));
+        serviceUrls.put("media", resolve(mobile, "media.api.url", owner::mediaApiUrl));
+        serviceUrls.put("backend", resolve(mobile, "backend.api.url", owner::backendApiUrl));
+        applyMockServer(mobile, owner, serviceUrls);
+        this.authUrl = serviceUrls.get("auth");
+        this.mediaApiUrl = serviceUrls.get("media");
+        this.backendApiUrl = serviceUrls.get("backend");
+        this.clientSecret = resolve(mobile, "client.secret", owner::clientSecret);
+        this.httpMaxTotal = resolveInt(mobile, "api.http.maxTotal", owner::httpMaxTotal);
+        this.httpMaxPerRoute = resolveInt(mobile, "api.http.maxPerRoute", owner::httpMaxPerRoute);
+        this.httpRouteLimits = parseIntMap(resolve(mobile, "api.http.routeLimits", owner::httpRouteLimits), "route limit");
+        this.cleanupParallelism = resolveInt(mobile, "api.cleanup.parallelism", owner::cleanupParallelism);
+        this.cleanupMaxRetries = resolveInt(mobile, "api.cleanup.maxRetries", owner::cleanupMaxRetries);
+        this.cacheMaxEntries = resolveInt(mobile, "api.cache.maxEntries", owner::cacheMaxEntries);
+        this.cacheTtlSeconds = parseIntMap(resolve(mobile, "api.cache.ttlSeconds", owner::cacheTtlSeconds), "cache TTL");
+        this.organizationIndexTtlSeconds = resolveInt(mobile, "api.organizationIndex.ttlSeconds", owner::organizationIndexTtlSeconds);
+        this.seedParallelism = resolveInt(mobile, "api.seed.parallelism", owner::seedParallelism);
+        this.seedRatePerSecond = resolveDouble(mobile, "api.seed.ratePerSecond", owner::seedRatePerSecond);
+        this.tokenValidation = resolve(mobile, "auth.token.validation", owner::tokenValidation);
+        String jwks = resolve(mobile, "auth.jwks.url", owner::jwksUrl);
+        this.jwksUrl = jwks != null ? jwks : authUrl + "/.well-known/jwks.json";
+        this.jwtAudience = resolve(mobile, "auth.jwt.audience", owner::jwtAudience);
+        this.testUsername = resolve(mobile, "test.user.username", owner::testUsername);
+        this.testPassword = resolve(mobile, "test.user.password", owner::testPassword);
+        this.staffUsername = resolve(mobile, "staff.username", owner::staffUsername);
+        this.staffPassword = resolve(mobile, "staff.password", owner::staffPassword);
+        this.iosClassId = resolve(mobile, "class.id.ios", owner::iosClassId);
+        this.androidClassId = resolve(mobile, "class.id.android", owner::androidClassId);
+        this.userRoomsId = resolve(mobile, "user.rooms.id", owner::userRoomsId);
+        // Owner decides, as it did before this facade; MobileConfig always sets its own context environment
+        this.environment = owner.environment();
+    }
+
+    /**
+     * Resolved configuration for the configuration context bound to the calling thread
+     */
+    public static FrameworkConfig getInstance() {
+        ConfigContext context = ConfigContext.current();
+        FrameworkConfig config = INSTANCES.get(context);
+        return config != null ? config : INSTANCES.computeIfAbsent(context, FrameworkConfig::resolve);
+    }
+
+    private static FrameworkConfig resolve(ConfigContext context) {
+        MobileConfigSnapshot mobile = MobileConfig.forContext(context).getSnapshot();
+        // Owner sources are selected by ${env}; a context may pin it, otherwise the global one is used
+        FrameworkConfig config = new FrameworkConfig(mobile, ConfigManager.getConfig(mobile.get("env")));
+        LOGGER.info("Resolved framework configuration for {}", context);
+        return config;
+    }
+
+    private static String resolve(MobileConfigSnapshot mobile, String key, Supplier<String> owner) {
+        // MobileConfig already layers system properties over its files
+        String value = mobile.get(key);
+        return value != null ? value : owner.get();
+    }
+
+    private static int resolveInt(MobileConfigSnapshot mobile, String key, IntSupplier owner) {
+        String value = mobile.get(key);
+        return value != null ? Integer.parseInt(value.trim()) : owner.getAsInt();
+    }
+
+    private static long resolveLong(MobileConfigSnapshot mobile, String key, LongSupplier owner) {
+        String value = mobile.get(key);
+        return value != null ? Long.parseLong(value.trim()) : owner.getAsLong();
+    }
+
+    private static double resolveDouble(MobileConfigSnapshot mobile, String key, DoubleSupplier owner) {
+        String value = mobile.get(key);
+        return value != null ? Double.parseDouble(value.trim()) : owner.getAsDouble();
+    }
+
+    /**
+     * Point the service URLs at the local record/replay server when api.mock.mode is not off.
+     * The server is process-wide and proxies to the URLs of the first context that starts it.
+     */
+    private static void applyMockServer(MobileConfigSnapshot mobile, ConfigManager.TestConfig owner,
+                                        Map<String, String> serviceUrls) {
+        MockApiServer.Mode mode = MockApiServer.Mode.valueOf(
+            resolve(mobile, "api.mock.mode", owner::mockMode).trim().toUpperCase(Locale.ROOT));
+        if (mode == MockApiServer.Mode.OFF) {
+            return;
+        }
+        serviceUrls.values().removeIf(Objects::isNull);
+        MockApiServer server = MockApiServer.start(mode,
+            resolveInt(mobile, "api.mock.port", owner::mockPort),
+            resolve(mobile, "api.mock.dir", owner::mockDir),
+            resolveLong(mobile, "api.mock.latencyMillis", owner::mockLatencyMillis),
+            serviceUrls);
+        serviceUrls.replaceAll((prefix, url) -> server.urlFor(prefix));
+    }
+
+    /**
+     * "host=limit,host=limit" to an unmodifiable map
+     */
+    private static Map<String, Integer> parseIntMap(String value, String description) {
+        Map<String, Integer> limits = new LinkedHashMap<>();
+        if (value != null) {
+            for (String entry : value.split(",")) {
+                String[] parts = entry.split("=");
+                if (parts.length == 2) {
+                    limits.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+                } else if (!entry.trim().isEmpty()) {
+                    LOGGER.warn("Ignoring malformed {}: {}", description, entry);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(limits);
+    }
+
+    public String getAppiumServerUrl() { return appiumServerUrl; }
+    public String getApiBaseUrl() { return apiBaseUrl; }
+    public String getAuthUrl() { return authUrl; }
+    public String getMediaApiUrl() { return mediaApiUrl; }
+    public String getBackendApiUrl() { return backendApiUrl; }
+    public String getClientSecret() { return clientSecret; }
+    public int getHttpMaxTotal() { return httpMaxTotal; }
+    public int getHttpMaxPerRoute() { return httpMaxPerRoute; }
+    public Map<String, Integer> getHttpRouteLimits() { return httpRouteLimits; }
+    public int getCleanupParallelism() { return cleanupParallelism; }
+    public int getCleanupMaxRetries() { return cleanupMaxRetries; }
+    public int getCacheMaxEntries() { return cacheMaxEntries; }
+    public Map<String, Integer> getCacheTtlSeconds() { return cacheTtlSeconds; }
+    public int getOrganizationIndexTtlSeconds() { return organizationIndexTtlSeconds; }
+    public int getSeedParallelism() { return seedParallelism; }
+    public double getSeedRatePerSecond() { return seedRatePerSecond; }
+    public String getTokenValidation() { return tokenValidation; }
+    public String getJwksUrl() { return jwksUrl; }
+    public String getJwtAudience() { return jwtAudience; }
+    public String getTestUsername() { return testUsername; }
+    public String getTestPassword() { return testPassword; }
+    public String getStaffUsername() { return staffUsername; }
+    public String getStaffPassword() { return staffPassword; }
+    public String getIosClassId() { return iosClassId; }
+    public String getAndroidClassId() { return androidClassId; }
+    public String getUserRoomsId() { return userRoomsId; }
+    public String getEnvironment() { return environment; }
+}
@@ -0,0 +1,116 @@
+package com.mobile.automation.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Identifies which configuration a worker runs with (platform, environment,
+ * device and any other property overrides).
+ *
+ * A context is bound to the current thread for the duration of a scenario, and
+ * {@link MobileConfig#getInstance()} resolves to the configuration of the bound
+ * context. Unbound threads use {@link #DEFAULT}, which reproduces the old
+ * system-property driven behaviour. This lets one JVM run an Android device
+ * group and a second environment side by side without touching system properties.
+ */
+public final class ConfigContext {
+    public static final String PLATFORM = "platform";
+    public static final String ENVIRONMENT = "environment";
+    public static final String DEVICE_UDID = "mobile.device.udid";
+
+    public static final ConfigContext DEFAULT = new ConfigContext(Collections.emptyMap());
+
+    private static final ThreadLocal<ConfigContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, String> overrides;
+
+    private ConfigContext(Map<String, String> overrides) {
+        this.overrides = Collections.unmodifiableMap(new TreeMap<>(overrides));
+    }
+
+    public static ConfigContext of(String platform, String environment) {
+        return DEFAULT.with(PLATFORM, platform).with(ENVIRONMENT, environment);
+    }
+
+    public static ConfigContext current() {
+        ConfigContext context = CURRENT.get();
+        return context != null ? context : DEFAULT;
+    }
+
+    /**
+     * Bind this context to the calling thread until the returned scope is closed.
+     */
+    public Scope bind() {
+        ConfigContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+
+    public ConfigContext with(String key, String value) {
+        if (value == null || value.equals(overrides.get(key))) {
+            return this;
+        }
+        Map<String, String> copy = new TreeMap<>(overrides);
+        copy.put(key, value);
+        return new ConfigContext(copy);
+    }
+
+    public ConfigContext withDevice(String udid) {
+        return with(DEVICE_UDID, udid);
+    }
+
+    public String get(String key) {
+        return overrides.get(key);
+    }
+
+    public String getPlatform() {
+        String platform = overrides.get(PLATFORM);
+        return platform != null ? platform : System.getProperty(PLATFORM, "android");
+    }
+
+    public String getEnvironment() {
+        String environment = overrides.get(ENVIRONMENT);
+        return environment != null ? environment : System.getProperty(ENVIRONMENT, "local");
+    }
+
+    public Map<String, String> getOverrides() {
+        return overrides;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof ConfigContext && overrides.equals(((ConfigContext) other).overrides);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(overrides);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigContext" + overrides;
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final ConfigContext previous;
+
+        private Scope(ConfigContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
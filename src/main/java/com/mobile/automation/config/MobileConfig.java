@@ -5,49 +5,61 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MobileConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(MobileConfig.class);
-    private static volatile MobileConfig instance;
-    private Properties properties;
+    // One configuration per context; ConcurrentHashMap reads are lock-free on the hot path
+    private static final Map<ConfigContext, MobileConfig> INSTANCES = new ConcurrentHashMap<>();
     
-    private MobileConfig() {
+    private final ConfigContext context;
+    // Rebuilt only on load; readers see a fully constructed snapshot without locking
+    private volatile MobileConfigSnapshot snapshot;
+    
+    private MobileConfig(ConfigContext context) {
+        this.context = context;
         loadConfiguration();
     }
     
     public static MobileConfig getInstance() {
-        if (instance == null) {
-            synchronized (MobileConfig.class) {
-                if (instance == null) {
-                    instance = new MobileConfig();
-                }
-            }
-        }
-        return instance;
+        return forContext(ConfigContext.current());
+    }
+    
+    public static MobileConfig forContext(ConfigContext context) {
+        MobileConfig config = INSTANCES.get(context);
+        return config != null ? config : INSTANCES.computeIfAbsent(context, MobileConfig::new);
     }
     
     private void loadConfiguration() {
-        properties = new Properties();
+        Properties properties = new Properties();
         
         // Load default properties
-        loadPropertiesFile("config/mobile.properties");
+        loadPropertiesFile(properties, "config/mobile.properties");
         
         // Load platform-specific properties
-        String platform = System.getProperty("platform", "android");
-        loadPropertiesFile("config/" + platform + ".properties");
+        String platform = context.getPlatform();
+        loadPropertiesFile(properties, "config/" + platform + ".properties");
         
         // Load environment-specific properties
-        String environment = System.getProperty("environment", "local");
-        loadPropertiesFile("config/environments/" + environment + ".properties");
+        String environment = context.getEnvironment();
+        loadPropertiesFile(properties, "config/environments/" + environment + ".properties");
         
-        // Override with system properties
+        // Override with system properties, then with the worker's own context
         properties.putAll(System.getProperties());
+        properties.putAll(context.getOverrides());
+        properties.setProperty(ConfigContext.PLATFORM, platform);
+        properties.setProperty(ConfigContext.ENVIRONMENT, environment);
+        
+        snapshot = new MobileConfigSnapshot(properties);
         
         LOGGER.info("Configuration loaded for platform: {}, environment: {}", platform, environment);
     }
     
-    private void loadPropertiesFile(String fileName) {
+    private void loadPropertiesFile(Properties properties, String fileName) {
         try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName)) {
             if (inputStream != null) {
                 Properties tempProps = new Properties();
@@ -62,118 +74,249 @@ public class MobileConfig {
         }
     }
     
+    public ConfigContext getContext() {
+        return context;
+    }
+    
+    public String getPlatform() {
+        return snapshot.get(ConfigContext.PLATFORM);
+    }
+    
+    public String getEnvironment() {
+        return snapshot.get(ConfigContext.ENVIRONMENT);
+    }
+    
+    public String getDeviceUdid() {
+        return snapshot.get(ConfigContext.DEVICE_UDID);
+    }
+    
+    public MobileConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+    
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        return snapshot.get(key);
     }
     
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return snapshot.get(key, defaultValue);
     }
     
     public int getIntProperty(String key, int defaultValue) {
-        String value = getProperty(key);
-        if (value != null) {
-            try {
-                return Integer.parseInt(value);
-            } catch (NumberFormatException e) {
-                LOGGER.warn("Invalid integer value for {}: {}, using default: {}", key, value, defaultValue);
-            }
-        }
-        return defaultValue;
+        return snapshot.getInt(key, defaultValue);
     }
     
     public boolean getBooleanProperty(String key, boolean defaultValue) {
-        String value = getProperty(key);
-        if (value != null) {
-            return Boolean.parseBoolean(value);
-        }
-        return defaultValue;
+        return snapshot.getBoolean(key, defaultValue);
     }
     
     // Mobile-specific configuration methods
     public String getAppiumServerUrl() {
-        return getProperty("appium.server.url", "http://127.0.0.1:4723");
+        return snapshot.appiumServerUrl;
     }
     
     public int getImplicitWaitTimeout() {
-        return getIntProperty("mobile.wait.implicit", 10);
+        return snapshot.implicitWaitTimeout;
     }
     
     public int getExplicitWaitTimeout() {
-        return getIntProperty("mobile.wait.explicit", 10);
+        return snapshot.explicitWaitTimeout;
+    }
+    
+    public Duration getImplicitWait() {
+        return snapshot.implicitWait;
+    }
+    
+    public Duration getExplicitWait() {
+        return snapshot.explicitWait;
     }
     
     public String getPlatformName() {
-        return getProperty("mobile.platform.name", "Android");
+        return snapshot.platformName;
     }
     
     public String getDeviceName() {
-        return getProperty("mobile.device.name", "Android Device");
+        return snapshot.deviceName;
     }
     
     public String getPlatformVersion() {
-        return getProperty("mobile.platform.version");
+        return snapshot.platformVersion;
     }
     
     public String getAppPackage() {
-        return getProperty("mobile.app.package");
+        return snapshot.appPackage;
     }
     
     public String getAppActivity() {
-        return getProperty("mobile.app.activity");
+        return snapshot.appActivity;
     }
     
     public String getAppPath() {
-        return getProperty("mobile.app.path");
+        return snapshot.appPath;
     }
     
     public boolean isNoReset() {
-        return getBooleanProperty("mobile.app.noReset", true);
+        return snapshot.noReset;
     }
     
     public boolean isFullReset() {
-        return getBooleanProperty("mobile.app.fullReset", false);
+        return snapshot.fullReset;
     }
     
     public boolean isAutoGrantPermissions() {
-        return getBooleanProperty("mobile.app.autoGrantPermissions", true);
+        return snapshot.autoGrantPermissions;
     }
     
     public int getNewCommandTimeout() {
-        return getIntProperty("mobile.session.newCommandTimeout", 300);
+        return snapshot.newCommandTimeout;
     }
     
     public String getAutomationName() {
-        return getProperty("mobile.automation.name", "UiAutomator2");
+        return snapshot.automationName;
+    }
+    
+    public boolean isWarmProfileEnabled() {
+        return snapshot.warmProfileEnabled;
+    }
+    
+    public double getRecycleLatencyFactor() {
+        return snapshot.recycleLatencyFactor;
+    }
+    
+    public int getRecycleMaxScenarios() {
+        return snapshot.recycleMaxScenarios;
+    }
+    
+    public int getRecycleMaxMinutes() {
+        return snapshot.recycleMaxMinutes;
+    }
+    
+    public int getRecycleBaselineCommands() {
+        return snapshot.recycleBaselineCommands;
+    }
+    
+    public int getRecycleWindowCommands() {
+        return snapshot.recycleWindowCommands;
+    }
+    
+    public boolean isInstallCacheEnabled() {
+        return snapshot.installCacheEnabled;
+    }
+    
+    public String getAdbPath() {
+        return snapshot.adbPath;
+    }
+    
+    public boolean isLoginCacheEnabled() {
+        return snapshot.loginCacheEnabled;
+    }
+    
+    public String getLoginDeepLink() {
+        return snapshot.loginDeepLink;
+    }
+    
+    public String getDevicePreparations() {
+        return snapshot.devicePrep;
+    }
+    
+    public List<String> getDevicePrepPermissions() {
+        return snapshot.devicePrepPermissions;
+    }
+    
+    public int getDevicePrepScreenTimeout() {
+        return snapshot.devicePrepScreenTimeout;
     }
     
     // Test execution configuration
     public boolean isParallelExecution() {
-        return getBooleanProperty("test.execution.parallel", false);
+        return snapshot.parallelExecution;
     }
     
     public int getThreadCount() {
-        return getIntProperty("test.execution.threadCount", 1);
+        return snapshot.threadCount;
     }
     
     public boolean isScreenshotOnFailure() {
-        return getBooleanProperty("test.screenshot.onFailure", true);
+        return snapshot.screenshotOnFailure;
     }
     
     public String getScreenshotPath() {
-        return getProperty("test.screenshot.path", "target/screenshots");
+        return snapshot.screenshotPath;
     }
     
     public String getReportsPath() {
-        return getProperty("test.reports.path", "target/reports");
+        return snapshot.reportsPath;
+    }
+    
+    public String getReportLinkBase() {
+        return snapshot.reportLinkBase;
+    }
+    
+    public boolean isAffinityScheduling() {
+        return snapshot.affinityScheduling;
+    }
+    
+    public List<String> getSchedulingAppTags() {
+        return snapshot.schedulingAppTags;
+    }
+    
+    // Artifact store configuration
+    public String getArtifactsPath() {
+        return snapshot.artifactsPath;
+    }
+    
+    public String getArtifactsDedupMode() {
+        return snapshot.artifactsDedupMode;
+    }
+    
+    public int getArtifactsPerceptualThreshold() {
+        return snapshot.artifactsPerceptualThreshold;
+    }
+    
+    public boolean isArtifactsEmbedded() {
+        return snapshot.artifactsEmbedded;
+    }
+    
+    // Failure recording configuration
+    public boolean isRecordingOnFailure() {
+        return snapshot.recordingOnFailure;
+    }
+    
+    public int getRecordingSegmentSeconds() {
+        return snapshot.recordingSegmentSeconds;
+    }
+    
+    public int getRecordingKeepSeconds() {
+        return snapshot.recordingKeepSeconds;
+    }
+    
+    public String getRecordingPath() {
+        return snapshot.recordingPath;
+    }
+    
+    public String getFfmpegCommand() {
+        return snapshot.ffmpegCommand;
+    }
+    
+    // Page source capture configuration
+    public String getPageSourceCaptureMode() {
+        return snapshot.pageSourceCaptureMode;
+    }
+    
+    public String getPageSourcePath() {
+        return snapshot.pageSourcePath;
+    }
+    
+    public String getPageSourceCompression() {
+        return snapshot.pageSourceCompression;
     }
     
     // Debug method to print all properties
     public void printConfiguration() {
         LOGGER.info("Current configuration:");
-        properties.forEach((key, value) -> {
-            if (!key.toString().toLowerCase().contains("password") && 
-                !key.toString().toLowerCase().contains("secret")) {
+        snapshot.asMap().forEach((key, value) -> {
+            if (!key.toLowerCase().contains("password") && 
+                !key.toLowerCase().contains("secret")) {
                 LOGGER.info("  {} = {}", key, value);
             }
         });
@@ -0,0 +1,193 @@
+package com.mobile.automation.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable, typed view of the merged configuration.
+ * Built once per load so hot paths (waits in BasePage, hooks) read plain final
+ * fields instead of going through the synchronized Properties table and
+ * re-parsing numbers on every interaction.
+ */
+public final class MobileConfigSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MobileConfigSnapshot.class);
+
+    private final Map<String, String> values;
+
+    // Mobile session
+    final String appiumServerUrl;
+    final int implicitWaitTimeout;
+    final int explicitWaitTimeout;
+    final Duration implicitWait;
+    final Duration explicitWait;
+    final String platformName;
+    final String deviceName;
+    final String platformVersion;
+    final String appPackage;
+    final String appActivity;
+    final String appPath;
+    final boolean noReset;
+    final boolean fullReset;
+    final boolean autoGrantPermissions;
+    final int newCommandTimeout;
+    final String automationName;
+    final boolean warmProfileEnabled;
+    final double recycleLatencyFactor;
+    final int recycleMaxScenarios;
+    final int recycleMaxMinutes;
+    final int recycleBaselineCommands;
+    final int recycleWindowCommands;
+    final boolean installCacheEnabled;
+    final String adbPath;
+    final boolean loginCacheEnabled;
+    final String loginDeepLink;
+    final String devicePrep;
+    final List<String> devicePrepPermissions;
+    final int devicePrepScreenTimeout;
+
+    // Test execution
+    final boolean parallelExecution;
+    final int threadCount;
+    final boolean screenshotOnFailure;
+    final String screenshotPath;
+    final String reportsPath;
+    final String reportLinkBase;
+    final boolean affinityScheduling;
+    final List<String> schedulingAppTags;
+
+    // Artifacts, recording and page sources
+    final String artifactsPath;
+    final String artifactsDedupMode;
+    final int artifactsPerceptualThreshold;
+    final boolean artifactsEmbedded;
+    final boolean recordingOnFailure;
+    final int recordingSegmentSeconds;
+    final int recordingKeepSeconds;
+    final String recordingPath;
+    final String ffmpegCommand;
+    final String pageSourceCaptureMode;
+    final String pageSourcePath;
+    final String pageSourceCompression;
+
+    MobileConfigSnapshot(Properties properties) {
+        Map<String, String> copy = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            copy.put(key, properties.getProperty(key));
+        }
+        this.values = Collections.unmodifiableMap(copy);
+
+        this.appiumServerUrl = get("appium.server.url", "http://127.0.0.1:4723");
+        this.implicitWaitTimeout = getInt("mobile.wait.implicit", 10);
+        this.explicitWaitTimeout = getInt("mobile.wait.explicit", 10);
+        this.implicitWait = Duration.ofSeconds(implicitWaitTimeout);
+        this.explicitWait = Duration.ofSeconds(explicitWaitTimeout);
+        this.platformName = get("mobile.platform.name", "Android");
+        this.deviceName = get("mobile.device.name", "Android Device");
+        this.platformVersion = get("mobile.platform.version");
+        this.appPackage = get("mobile.app.package");
+        this.appActivity = get("mobile.app.activity");
+        this.appPath = get("mobile.app.path");
+        this.noReset = getBoolean("mobile.app.noReset", true);
+        this.fullReset = getBoolean("mobile.app.fullReset", false);
+        this.autoGrantPermissions = getBoolean("mobile.app.autoGrantPermissions", true);
+        this.newCommandTimeout = getInt("mobile.session.newCommandTimeout", 300);
+        this.automationName = get("mobile.automation.name", "UiAutomator2");
+        this.warmProfileEnabled = getBoolean("mobile.session.warmProfile", true);
+        this.recycleLatencyFactor = getDouble("mobile.session.recycle.latencyFactor", 0);
+        this.recycleMaxScenarios = getInt("mobile.session.recycle.maxScenarios", 0);
+        this.recycleMaxMinutes = getInt("mobile.session.recycle.maxMinutes", 0);
+        this.recycleBaselineCommands = getInt("mobile.session.recycle.baselineCommands", 50);
+        this.recycleWindowCommands = getInt("mobile.session.recycle.windowCommands", 50);
+        this.installCacheEnabled = getBoolean("mobile.app.installCache", true);
+        this.adbPath = get("mobile.adb.path", "");
+        this.loginCacheEnabled = getBoolean("mobile.auth.cache", true);
+        this.loginDeepLink = get("mobile.auth.deepLink", "");
+        this.devicePrep = get("mobile.device.prep", "");
+        this.devicePrepPermissions = getList("mobile.device.prep.permissions");
+        this.devicePrepScreenTimeout = getInt("mobile.device.prep.screenTimeout", 1800000);
+
+        this.parallelExecution = getBoolean("test.execution.parallel", false);
+        this.threadCount = getInt("test.execution.threadCount", 1);
+        this.screenshotOnFailure = getBoolean("test.screenshot.onFailure", true);
+        this.screenshotPath = get("test.screenshot.path", "target/screenshots");
+        this.reportsPath = get("test.reports.path", "target/reports");
+        this.reportLinkBase = get("test.reports.linkBase", reportsPath);
+        this.affinityScheduling = getBoolean("test.scheduling.affinity", false);
+        this.schedulingAppTags = getList("test.scheduling.appTags");
+
+        this.artifactsPath = get("test.artifacts.path", screenshotPath);
+        this.artifactsDedupMode = get("test.artifacts.dedup", "exact");
+        this.artifactsPerceptualThreshold = getInt("test.artifacts.perceptual.threshold", 4);
+        this.artifactsEmbedded = getBoolean("test.artifacts.embed", false);
+        this.recordingOnFailure = getBoolean("test.recording.onFailure", false);
+        this.recordingSegmentSeconds = getInt("test.recording.segmentSeconds", 10);
+        this.recordingKeepSeconds = getInt("test.recording.keepSeconds", 30);
+        this.recordingPath = get("test.recording.path", "target/recordings");
+        this.ffmpegCommand = get("test.recording.ffmpeg", "ffmpeg");
+        this.pageSourceCaptureMode = get("test.pagesource.capture", "off");
+        this.pageSourcePath = get("test.pagesource.path", "target/page-sources");
+        this.pageSourceCompression = get("test.pagesource.compression", "default");
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid integer value for {}: {}, using default: {}", key, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        if (value != null) {
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid decimal value for {}: {}, using default: {}", key, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    public List<String> getList(String key) {
+        List<String> items = new ArrayList<>();
+        String value = values.get(key);
+        if (value != null) {
+            for (String item : value.split(",")) {
+                if (!item.trim().isEmpty()) {
+                    items.add(item.trim());
+                }
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+}
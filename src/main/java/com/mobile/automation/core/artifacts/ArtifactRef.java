@@ -0,0 +1,40 @@
+package com.mobile.automation.core.artifacts;
+
+import java.nio.file.Path;
+
+public class ArtifactRef {
+    private final String hash;
+    private final Path path;
+    private final String mediaType;
+    private final boolean reused;
+
+    public ArtifactRef(String hash, Path path, String mediaType, boolean reused) {
+        this.hash = hash;
+        this.path = path;
+        this.mediaType = mediaType;
+        this.reused = reused;
+    }
+
+    public String getHash() { return hash; }
+    public Path getPath() { return path; }
+    public String getMediaType() { return mediaType; }
+
+    // True when the content was already in the store and nothing was written
+    public boolean isReused() { return reused; }
+
+    public String getShortHash() {
+        return hash.length() > 12 ? hash.substring(0, 12) : hash;
+    }
+
+    /**
+     * Link to the file relative to the reports directory, so it survives moving the report
+     */
+    public String getReportLink() {
+        return ArtifactStore.reportLink(path);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ArtifactRef{hash=%s, path=%s, reused=%s}", getShortHash(), path, reused);
+    }
+}
@@ -0,0 +1,169 @@
+package com.mobile.automation.core.artifacts;
+
+import com.mobile.automation.config.MobileConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed store for screenshots, page sources and other test artifacts.
+ * Files are named after the SHA-256 of their content and written at most once, so
+ * repeated failures on the same screen cost one file instead of one per scenario.
+ * Reports reference artifacts by a path relative to the directory of the report
+ * that embeds them (test.reports.linkBase) instead of embedding them as base64.
+ */
+public class ArtifactStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactStore.class);
+    private static volatile ArtifactStore instance;
+
+    private final Path root;
+    private final boolean perceptual;
+    private final int perceptualThreshold;
+    private final Map<String, ArtifactRef> known = new ConcurrentHashMap<>();
+    private final List<PerceptualEntry> perceptualIndex = new CopyOnWriteArrayList<>();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    ArtifactStore(Path root, boolean perceptual, int perceptualThreshold) {
+        this.root = root;
+        this.perceptual = perceptual;
+        this.perceptualThreshold = perceptualThreshold;
+    }
+
+    public static ArtifactStore getInstance() {
+        if (instance == null) {
+            synchronized (ArtifactStore.class) {
+                if (instance == null) {
+                    MobileConfig config = MobileConfig.getInstance();
+                    instance = new ArtifactStore(
+                        Paths.get(config.getArtifactsPath()),
+                        "perceptual".equalsIgnoreCase(config.getArtifactsDedupMode()),
+                        config.getArtifactsPerceptualThreshold());
+                    LOGGER.info("Artifact store at {} (dedup: {})", instance.root, config.getArtifactsDedupMode());
+                }
+            }
+        }
+        return instance;
+    }
+
+    public ArtifactRef storeScreenshot(byte[] png) {
+        if (perceptual) {
+            try {
+                long phash = PerceptualHash.of(png);
+                for (PerceptualEntry entry : perceptualIndex) {
+                    if (PerceptualHash.distance(entry.phash, phash) <= perceptualThreshold) {
+                        bytesSaved.addAndGet(png.length);
+                        LOGGER.debug("Screenshot collapsed onto near-duplicate {}", entry.ref.getShortHash());
+                        return new ArtifactRef(entry.ref.getHash(), entry.ref.getPath(), entry.ref.getMediaType(), true);
+                    }
+                }
+                ArtifactRef ref = store(png, "png", "image/png");
+                if (!ref.isReused()) {
+                    perceptualIndex.add(new PerceptualEntry(phash, ref));
+                }
+                return ref;
+            } catch (IOException e) {
+                LOGGER.debug("Perceptual hash unavailable, falling back to exact match: {}", e.getMessage());
+            }
+        }
+        return store(png, "png", "image/png");
+    }
+
+    public ArtifactRef store(byte[] content, String extension, String mediaType) {
+        String hash = sha256(content);
+        ArtifactRef existing = known.get(hash);
+        if (existing != null) {
+            bytesSaved.addAndGet(content.length);
+            return new ArtifactRef(hash, existing.getPath(), mediaType, true);
+        }
+
+        Path target = root.resolve(hash.substring(0, 2)).resolve(hash + "." + extension);
+        try {
+            if (Files.exists(target)) {
+                bytesSaved.addAndGet(content.length);
+                ArtifactRef ref = new ArtifactRef(hash, target, mediaType, true);
+                known.putIfAbsent(hash, ref);
+                return ref;
+            }
+
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            bytesWritten.addAndGet(content.length);
+
+            ArtifactRef ref = new ArtifactRef(hash, target, mediaType, false);
+            ArtifactRef raced = known.putIfAbsent(hash, ref);
+            LOGGER.debug("Stored artifact {}", ref);
+            return raced != null ? new ArtifactRef(hash, target, mediaType, true) : ref;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store artifact " + hash, e);
+        }
+    }
+
+    /**
+     * Make the artifact also reachable under a descriptive name, as a hard link where the
+     * file system supports it and as a copy otherwise
+     */
+    public Path linkAs(ArtifactRef ref, Path link) {
+        try {
+            Files.createDirectories(link.toAbsolutePath().getParent());
+            Files.deleteIfExists(link);
+            try {
+                Files.createLink(link, ref.getPath());
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(ref.getPath(), link);
+            }
+            return link;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to link artifact " + ref.getShortHash() + " as " + link, e);
+        }
+    }
+
+    /**
+     * Path of a file relative to the directory of the embedding report, with forward slashes, for report links
+     */
+    public static String reportLink(Path file) {
+        Path reports = Paths.get(MobileConfig.getInstance().getReportLinkBase()).toAbsolutePath().normalize();
+        return reports.relativize(file.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+
+    public Path getRoot() { return root; }
+    public long getBytesWritten() { return bytesWritten.get(); }
+    public long getBytesSaved() { return bytesSaved.get(); }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class PerceptualEntry {
+        private final long phash;
+        private final ArtifactRef ref;
+
+        PerceptualEntry(long phash, ArtifactRef ref) {
+            this.phash = phash;
+            this.ref = ref;
+        }
+    }
+}
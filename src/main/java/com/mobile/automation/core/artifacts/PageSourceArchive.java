@@ -0,0 +1,130 @@
+package com.mobile.automation.core.artifacts;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * One compressed archive of UI hierarchy snapshots per scenario.
+ * The test thread only fetches the page source; compression and disk I/O
+ * happen on a shared background writer. An index.tsv entry is written on
+ * close so {@link PageSourceArchiveViewer} can list steps without inflating them.
+ */
+public class PageSourceArchive {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PageSourceArchive.class);
+    static final String INDEX_ENTRY = "index.tsv";
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "page-source-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            WRITER.shutdown();
+            try {
+                WRITER.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "page-source-shutdown"));
+    }
+
+    private final Path file;
+    private final int compressionLevel;
+    private final List<String> index = new ArrayList<>();
+    private ZipOutputStream zip;
+    private boolean failed;
+
+    public PageSourceArchive(Path file, int compressionLevel) {
+        this.file = file;
+        this.compressionLevel = compressionLevel;
+    }
+
+    public void record(int step, String status, String pageSource) {
+        Instant capturedAt = Instant.now();
+        WRITER.submit(() -> write(step, status, capturedAt, pageSource));
+    }
+
+    /**
+     * Queue the index and close the archive. The future completes with the archive
+     * once it is fully written, or with null when nothing could be written.
+     */
+    public Future<Path> close() {
+        return WRITER.submit(() -> finish() ? file : null);
+    }
+
+    public Path getFile() { return file; }
+
+    private void write(int step, String status, Instant capturedAt, String pageSource) {
+        if (failed) {
+            return;
+        }
+        try {
+            if (zip == null) {
+                Files.createDirectories(file.getParent());
+                OutputStream out = Files.newOutputStream(file);
+                zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+                zip.setLevel(compressionLevel);
+            }
+            String name = String.format("step-%03d.xml", step);
+            byte[] content = pageSource.getBytes(StandardCharsets.UTF_8);
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(content);
+            zip.closeEntry();
+            index.add(String.join("\t", String.valueOf(step), status, capturedAt.toString(),
+                String.valueOf(content.length), name));
+        } catch (IOException e) {
+            failed = true;
+            LOGGER.error("Failed to write page source for step {} to {}", step, file, e);
+        }
+    }
+
+    private boolean finish() {
+        if (zip == null) {
+            return false;
+        }
+        try {
+            zip.putNextEntry(new ZipEntry(INDEX_ENTRY));
+            StringBuilder content = new StringBuilder("step\tstatus\tcapturedAt\tbytes\tentry\n");
+            for (String line : index) {
+                content.append(line).append('\n');
+            }
+            zip.write(content.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.close();
+            LOGGER.info("Page source archive written: {} ({} snapshots)", file, index.size());
+            return !failed;
+        } catch (IOException e) {
+            LOGGER.error("Failed to close page source archive {}", file, e);
+            return false;
+        } finally {
+            zip = null;
+        }
+    }
+
+    public static int compressionLevel(String name) {
+        if ("fast".equalsIgnoreCase(name)) {
+            return Deflater.BEST_SPEED;
+        }
+        if ("best".equalsIgnoreCase(name)) {
+            return Deflater.BEST_COMPRESSION;
+        }
+        return Deflater.DEFAULT_COMPRESSION;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mobile.automation.core.artifacts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Command line viewer for page source archives written by {@link PageSourceArchive}.
+ *
+ * Usage:
+ *   list &lt;archive.zip&gt;            print the step index
+ *   show &lt;archive.zip&gt; &lt;step&gt;     print the UI hierarchy captured after a step
+ *   find &lt;archive.zip&gt; &lt;text&gt;     list the steps whose hierarchy contains the text
+ */
+public final class PageSourceArchiveViewer {
+
+    private PageSourceArchiveViewer() {
+        // Command line entry point only
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: PageSourceArchiveViewer list|show|find <archive.zip> [step|text]");
+            System.exit(2);
+        }
+
+        try (ZipFile archive = new ZipFile(args[1], StandardCharsets.UTF_8)) {
+            switch (args[0]) {
+                case "list":
+                    System.out.print(read(archive, PageSourceArchive.INDEX_ENTRY));
+                    break;
+                case "show":
+                    requireArgument(args);
+                    System.out.print(read(archive, String.format("step-%03d.xml", Integer.parseInt(args[2]))));
+                    break;
+                case "find":
+                    requireArgument(args);
+                    Enumeration<? extends ZipEntry> entries = archive.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry entry = entries.nextElement();
+                        if (entry.getName().startsWith("step-") && read(archive, entry.getName()).contains(args[2])) {
+                            System.out.println(entry.getName());
+                        }
+                    }
+                    break;
+                default:
+                    System.err.println("Unknown command: " + args[0]);
+                    System.exit(2);
+            }
+        }
+    }
+
+    private static void requireArgument(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Missing argument for " + args[0]);
+            System.exit(2);
+        }
+    }
+
+    private static String read(ZipFile archive, String name) throws IOException {
+        ZipEntry entry = archive.getEntry(name);
+        if (entry == null) {
+            throw new IOException("Entry not found in archive: " + name);
+        }
+        try (InputStream in = archive.getInputStream(entry)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.mobile.automation.core.artifacts;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * 64-bit difference hash (dHash) for screenshots.
+ * Two screenshots of the same screen that only differ in a clock, cursor or
+ * toast end up a few bits apart, so near-duplicates can be collapsed by
+ * comparing Hamming distance instead of exact bytes.
+ */
+public final class PerceptualHash {
+    private static final int WIDTH = 9;
+    private static final int HEIGHT = 8;
+
+    private PerceptualHash() {
+        // Utility class
+    }
+
+    public static long of(byte[] image) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(image));
+        if (source == null) {
+            throw new IOException("Unsupported image format");
+        }
+
+        BufferedImage scaled = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, WIDTH, HEIGHT, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        long hash = 0L;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH - 1; x++) {
+                int left = scaled.getRaster().getSample(x, y, 0);
+                int right = scaled.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1L : 0L);
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+}
@@ -0,0 +1,129 @@
+package com.mobile.automation.core.auth;
+
+import com.example.api.AuthService;
+import com.mobile.automation.config.MobileConfig;
+import com.mobile.automation.core.driver.DriverManager;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Remembers which user is logged in on which Appium session, so a login Background
+ * only drives the login UI once per session.
+ *
+ * For a session without a known login the cache first tries to inject a token from
+ * {@link AuthService} through the app's deep link (mobile.auth.deepLink, with a
+ * {token} placeholder), and only then falls back to the UI login supplied by the step.
+ * A cached login whose authenticated screen is no longer shown is dropped and redone.
+ */
+public class LoginStateCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginStateCache.class);
+    private static final LoginStateCache INSTANCE = new LoginStateCache();
+    private static final String TOKEN_PLACEHOLDER = "{token}";
+
+    private final Map<String, String> loggedInUsers = new ConcurrentHashMap<>();
+
+    public enum Outcome {
+        REUSED, INJECTED, UI_LOGIN
+    }
+
+    private LoginStateCache() {
+    }
+
+    public static LoginStateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Make sure the current session is logged in as the given user.
+     *
+     * @param isAuthenticated checks that the app shows the authenticated start screen
+     * @param uiLogin         drives the login screen, used when nothing cheaper works
+     */
+    public Outcome ensureLoggedIn(String username, String password, BooleanSupplier isAuthenticated, Runnable uiLogin) {
+        MobileConfig config = MobileConfig.getInstance();
+        String sessionId = DriverManager.getDriver().getSessionId().toString();
+
+        if (config.isLoginCacheEnabled()) {
+            if (username.equals(loggedInUsers.get(sessionId)) && isAuthenticated.getAsBoolean()) {
+                LOGGER.info("Reusing login of {} on session {}", username, sessionId);
+                return Outcome.REUSED;
+            }
+            loggedInUsers.remove(sessionId);
+
+            String deepLink = config.getLoginDeepLink();
+            if (!deepLink.isEmpty() && injectToken(deepLink, username, password) && isAuthenticated.getAsBoolean()) {
+                loggedInUsers.put(sessionId, username);
+                LOGGER.info("Logged in {} by token injection on session {}", username, sessionId);
+                return Outcome.INJECTED;
+            }
+        }
+
+        uiLogin.run();
+        if (!isAuthenticated.getAsBoolean()) {
+            throw new IllegalStateException("Login as " + username + " did not reach the authenticated screen");
+        }
+        loggedInUsers.put(sessionId, username);
+        LOGGER.info("Logged in {} through the UI on session {}", username, sessionId);
+        return Outcome.UI_LOGIN;
+    }
+
+    /**
+     * Whether the current session has a login that is known to this cache
+     */
+    public boolean hasLogin() {
+        return MobileConfig.getInstance().isLoginCacheEnabled() && DriverManager.isDriverInitialized()
+            && loggedInUsers.containsKey(DriverManager.getDriver().getSessionId().toString());
+    }
+
+    /**
+     * Forget the login of the current session, e.g. after a step logged out
+     */
+    public void invalidate() {
+        if (DriverManager.isDriverInitialized()) {
+            loggedInUsers.remove(DriverManager.getDriver().getSessionId().toString());
+        }
+    }
+
+    /**
+     * Drop a session that has ended, so its id does not stay in the cache for the whole run
+     */
+    public void sessionEnded(String sessionId) {
+        if (sessionId != null) {
+            loggedInUsers.remove(sessionId);
+        }
+    }
+
+    private boolean injectToken(String deepLinkTemplate, String username, String password) {
+        try {
+            AuthService.TokenResponse token = new AuthService().getToken(username, password);
+            if (!token.isSuccess()) {
+                LOGGER.warn("No token for {} (status {}), falling back to UI login", username, token.getStatusCode());
+                return false;
+            }
+            String rawToken = token.getAccessToken() != null ? token.getAccessToken() : token.getIdToken();
+            String url = deepLinkTemplate.replace(TOKEN_PLACEHOLDER, URLEncoder.encode(rawToken, StandardCharsets.UTF_8));
+
+            AppiumDriver driver = DriverManager.getDriver();
+            Map<String, Object> args = new HashMap<>();
+            args.put("url", url);
+            String appPackage = MobileConfig.getInstance().getAppPackage();
+            if (appPackage != null && !(driver instanceof IOSDriver)) {
+                args.put("package", appPackage);
+            }
+            driver.executeScript("mobile: deepLink", args);
+            return true;
+        } catch (Exception e) {
+            LOGGER.warn("Token injection failed for {}, falling back to UI login: {}", username, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -11,7 +11,6 @@ import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
 import java.util.List;
 
 public abstract class BasePage {
@@ -27,7 +26,7 @@ public abstract class BasePage {
     
     private void initializePageElements() {
         PageFactory.initElements(
-            new AppiumFieldDecorator(driver, Duration.ofSeconds(config.getImplicitWaitTimeout())), 
+            new AppiumFieldDecorator(driver, config.getImplicitWait()), 
             this
         );
         logger.debug("Initialized page elements for: {}", this.getClass().getSimpleName());
@@ -36,7 +35,7 @@ public abstract class BasePage {
     // Common element interaction methods
     protected void click(WebElement element) {
         // For PageFactory elements, wait for the element itself to be clickable
-        new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(config.getExplicitWaitTimeout()))
+        new org.openqa.selenium.support.ui.WebDriverWait(driver, config.getExplicitWait())
             .until(org.openqa.selenium.support.ui.ExpectedConditions.elementToBeClickable(element));
         element.click();
         logger.debug("Clicked element: {}", element);
@@ -48,7 +47,7 @@ public abstract class BasePage {
     }
     
     protected void sendKeys(WebElement element, String text) {
-        new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(config.getExplicitWaitTimeout()))
+        new org.openqa.selenium.support.ui.WebDriverWait(driver, config.getExplicitWait())
             .until(org.openqa.selenium.support.ui.ExpectedConditions.elementToBeClickable(element));
         element.clear();
         element.sendKeys(text);
@@ -63,7 +62,7 @@ public abstract class BasePage {
     }
     
     protected String getText(WebElement element) {
-        new org.openqa.selenium.support.ui.WebDriverWait(driver, java.time.Duration.ofSeconds(config.getExplicitWaitTimeout()))
+        new org.openqa.selenium.support.ui.WebDriverWait(driver, config.getExplicitWait())
             .until(org.openqa.selenium.support.ui.ExpectedConditions.visibilityOf(element));
         String text = element.getText();
         logger.debug("Got text '{}' from element: {}", text, element);
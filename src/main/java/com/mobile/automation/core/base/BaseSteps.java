@@ -8,15 +8,20 @@ import org.slf4j.LoggerFactory;
 
 public abstract class BaseSteps {
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
-    protected AppiumDriver driver;
     protected MobileConfig config;
     
     public BaseSteps() {
-        this.driver = DriverManager.getDriver();
         this.config = MobileConfig.getInstance();
         logger.debug("Initialized step definitions: {}", this.getClass().getSimpleName());
     }
     
+    /**
+     * Resolved on use: the session is only started by the first step that needs the UI
+     */
+    protected AppiumDriver getDriver() {
+        return DriverManager.getDriver();
+    }
+    
     protected void logStep(String stepDescription) {
         logger.info("Executing step: {}", stepDescription);
     }
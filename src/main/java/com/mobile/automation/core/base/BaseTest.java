@@ -1,6 +1,8 @@
 package com.mobile.automation.core.base;
 
 import com.mobile.automation.config.MobileConfig;
+import com.mobile.automation.core.artifacts.ArtifactRef;
+import com.mobile.automation.core.artifacts.ArtifactStore;
 import com.mobile.automation.core.driver.DriverManager;
 import com.mobile.automation.platforms.android.AndroidCapabilities;
 import org.openqa.selenium.remote.DesiredCapabilities;
@@ -11,7 +13,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
-import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -139,22 +142,15 @@ public abstract class BaseTest {
     protected void takeScreenshot(String testName) {
         if (config.isScreenshotOnFailure() && DriverManager.isDriverInitialized()) {
             try {
+                byte[] screenshot = DriverManager.getDriver().getScreenshotAs(org.openqa.selenium.OutputType.BYTES);
+                ArtifactRef ref = ArtifactStore.getInstance().storeScreenshot(screenshot);
+                
+                // Named link next to the content-addressed file, so the test is still recognisable on disk
                 String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
                 String fileName = String.format("%s_%s_%s.png", testName, config.getPlatformName(), timestamp);
-                String screenshotPath = config.getScreenshotPath();
-                
-                // Create screenshot directory if it doesn't exist
-                File screenshotDir = new File(screenshotPath);
-                if (!screenshotDir.exists()) {
-                    screenshotDir.mkdirs();
-                }
-                
-                // Take screenshot using Appium
-                String fullPath = screenshotPath + File.separator + fileName;
-                File screenshot = DriverManager.getDriver().getScreenshotAs(org.openqa.selenium.OutputType.FILE);
-                java.nio.file.Files.copy(screenshot.toPath(), new File(fullPath).toPath());
+                Path link = ArtifactStore.getInstance().linkAs(ref, Paths.get(config.getScreenshotPath(), fileName));
                 
-                logger.info("Screenshot saved: {}", fullPath);
+                logger.info("Screenshot saved: {} ({})", link, ref.getShortHash());
             } catch (Exception e) {
                 logger.error("Failed to take screenshot", e);
             }
@@ -0,0 +1,30 @@
+package com.mobile.automation.core.driver;
+
+import com.mobile.automation.platforms.android.AndroidCapabilities;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+/**
+ * Session start profiles. A device's first session installs the automation
+ * server and the app; once a session has succeeded on a udid the server and
+ * device settings are already in place, so later sessions can skip that work.
+ */
+public enum CapabilityProfile {
+    FIRST_SESSION {
+        @Override
+        public DesiredCapabilities apply(DesiredCapabilities capabilities) {
+            return capabilities;
+        }
+    },
+    WARM {
+        @Override
+        public DesiredCapabilities apply(DesiredCapabilities capabilities) {
+            Object platformName = capabilities.getCapability("platformName");
+            if (platformName != null && "android".equalsIgnoreCase(platformName.toString())) {
+                return AndroidCapabilities.applyWarmSessionOptions(capabilities);
+            }
+            return capabilities;
+        }
+    };
+
+    public abstract DesiredCapabilities apply(DesiredCapabilities capabilities);
+}
@@ -0,0 +1,107 @@
+package com.mobile.automation.core.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which devices, by udid, have had a successful session in this JVM
+ * and records new-session latency per capability profile.
+ */
+public class DeviceSessionRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeviceSessionRegistry.class);
+    private static final DeviceSessionRegistry INSTANCE = new DeviceSessionRegistry();
+
+    private final Set<String> warmDevices = ConcurrentHashMap.newKeySet();
+    private final Map<CapabilityProfile, LatencyStats> latencies = new EnumMap<>(CapabilityProfile.class);
+    private volatile Path reportFile;
+
+    private DeviceSessionRegistry() {
+        for (CapabilityProfile profile : CapabilityProfile.values()) {
+            latencies.put(profile, new LatencyStats());
+        }
+    }
+
+    public static DeviceSessionRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public CapabilityProfile profileFor(String udid) {
+        return udid != null && warmDevices.contains(udid) ? CapabilityProfile.WARM : CapabilityProfile.FIRST_SESSION;
+    }
+
+    /**
+     * @param udid device the session reports, or null when unknown; the device then stays cold
+     */
+    public void recordSuccess(CapabilityProfile profile, long latencyMillis, String udid) {
+        latencies.get(profile).add(latencyMillis);
+        if (udid != null && warmDevices.add(udid)) {
+            LOGGER.info("Device {} is warm, next sessions use the {} profile", udid, CapabilityProfile.WARM);
+        }
+    }
+
+    public void markCold(String udid) {
+        if (udid != null && warmDevices.remove(udid)) {
+            LOGGER.info("Device {} reset to the {} profile", udid, CapabilityProfile.FIRST_SESSION);
+        }
+    }
+
+    /**
+     * Write the latency summary to the given file when the JVM exits.
+     */
+    public synchronized void reportTo(Path file) {
+        if (reportFile == null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::writeReport, "session-latency-report"));
+        }
+        reportFile = file;
+    }
+
+    public Map<String, Object> getSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        latencies.forEach((profile, stats) -> summary.put(profile.name(), stats.toMap()));
+        return summary;
+    }
+
+    private void writeReport() {
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), getSummary());
+            LOGGER.info("Session startup latency by profile: {}", getSummary());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write session latency report to {}", reportFile, e);
+        }
+    }
+
+    private static class LatencyStats {
+        private long count;
+        private long totalMillis;
+        private long minMillis = Long.MAX_VALUE;
+        private long maxMillis;
+
+        synchronized void add(long millis) {
+            count++;
+            totalMillis += millis;
+            minMillis = Math.min(minMillis, millis);
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("sessions", count);
+            map.put("avgMillis", count == 0 ? 0 : totalMillis / count);
+            map.put("minMillis", count == 0 ? 0 : minMillis);
+            map.put("maxMillis", maxMillis);
+            return map;
+        }
+    }
+}
@@ -1,47 +1,89 @@
 package com.mobile.automation.core.driver;
 
+import com.mobile.automation.config.MobileConfig;
+import com.mobile.automation.core.auth.LoginStateCache;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.SessionId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.time.Duration;
 
 public class DriverManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(DriverManager.class);
     private static final ThreadLocal<AppiumDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<SessionStartup> lastSessionStartup = new ThreadLocal<>();
+    private static final ThreadLocal<SessionHealth> sessionHealth = new ThreadLocal<>();
+    // Session registered by the hooks but not started until the first getDriver() call
+    private static final ThreadLocal<DeferredSession> deferredSession = new ThreadLocal<>();
     
-    private static String appiumServerUrl = System.getProperty("appium.url", "http://127.0.0.1:4723");
+    // Per worker, so parallel workers bound to different contexts can target different servers
+    private static final ThreadLocal<String> appiumServerUrl =
+        ThreadLocal.withInitial(() -> System.getProperty("appium.url", "http://127.0.0.1:4723"));
     
     public static void initializeDriver(Platform platform, DesiredCapabilities capabilities) {
+        MobileConfig config = MobileConfig.getInstance();
+        DeviceSessionRegistry registry = DeviceSessionRegistry.getInstance();
+        registry.reportTo(Paths.get(config.getReportsPath(), "session-startup.json"));
+        
+        String deviceKey = getRequestedUdid(capabilities);
+        CapabilityProfile profile = selectProfile(registry, config.isWarmProfileEnabled(), capabilities);
+        
+        try {
+            startSession(platform, profile.apply(new DesiredCapabilities(capabilities)), profile);
+        } catch (RuntimeException e) {
+            if (profile != CapabilityProfile.WARM) {
+                throw e;
+            }
+            // Server or device state may have been wiped since the last session
+            LOGGER.warn("Warm session start failed on {}, retrying with {} profile", deviceKey, CapabilityProfile.FIRST_SESSION);
+            registry.markCold(deviceKey);
+            startSession(platform, capabilities, CapabilityProfile.FIRST_SESSION);
+        }
+    }
+    
+    private static void startSession(Platform platform, DesiredCapabilities capabilities, CapabilityProfile profile) {
         try {
-            URL serverUrl = new URL(appiumServerUrl);
+            URL serverUrl = new URL(appiumServerUrl.get());
+            MobileConfig config = MobileConfig.getInstance();
+            SessionHealth health = new SessionHealth(config.getRecycleBaselineCommands(), config.getRecycleWindowCommands());
             AppiumDriver appiumDriver;
+            long startNanos = System.nanoTime();
             
             switch (platform) {
                 case ANDROID:
-                    LOGGER.info("Initializing Android driver with capabilities: {}", capabilities);
-                    appiumDriver = new AndroidDriver(serverUrl, capabilities);
+                    LOGGER.info("Initializing Android driver ({} profile) with capabilities: {}", profile, capabilities);
+                    appiumDriver = new AndroidDriver(new TimedCommandExecutor(serverUrl, health), capabilities);
                     break;
                 case IOS:
-                    LOGGER.info("Initializing iOS driver with capabilities: {}", capabilities);
-                    appiumDriver = new IOSDriver(serverUrl, capabilities);
+                    LOGGER.info("Initializing iOS driver ({} profile) with capabilities: {}", profile, capabilities);
+                    appiumDriver = new IOSDriver(new TimedCommandExecutor(serverUrl, health), capabilities);
                     break;
                 default:
                     throw new IllegalArgumentException("Unsupported platform: " + platform);
             }
             
+            long latencyMillis = (System.nanoTime() - startNanos) / 1_000_000;
             appiumDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
             driver.set(appiumDriver);
+            sessionHealth.set(health);
+            lastSessionStartup.set(new SessionStartup(profile, latencyMillis));
+            
+            // Keyed by the device the server actually picked
+            Object reportedUdid = appiumDriver.getCapabilities().getCapability("udid");
+            DeviceSessionRegistry.getInstance().recordSuccess(profile, latencyMillis,
+                reportedUdid != null ? reportedUdid.toString() : null);
             
-            LOGGER.info("Successfully initialized {} driver", platform);
+            LOGGER.info("Successfully initialized {} driver in {} ms ({} profile)", platform, latencyMillis, profile);
             
         } catch (MalformedURLException e) {
-            LOGGER.error("Invalid Appium server URL: {}", appiumServerUrl, e);
+            LOGGER.error("Invalid Appium server URL: {}", appiumServerUrl.get(), e);
             throw new RuntimeException("Failed to initialize driver due to invalid URL", e);
         } catch (Exception e) {
             LOGGER.error("Failed to initialize {} driver", platform, e);
@@ -49,8 +91,58 @@ public class DriverManager {
         }
     }
     
+    /**
+     * WARM when the capabilities request a udid that already had a session in this JVM
+     */
+    static CapabilityProfile selectProfile(DeviceSessionRegistry registry, boolean warmEnabled,
+                                           DesiredCapabilities capabilities) {
+        // Only a real udid identifies a device; names like "Android Device" are shared by many
+        return warmEnabled ? registry.profileFor(getRequestedUdid(capabilities)) : CapabilityProfile.FIRST_SESSION;
+    }
+    
+    private static String getRequestedUdid(DesiredCapabilities capabilities) {
+        Object udid = capabilities.getCapability("udid");
+        return udid != null && !udid.toString().trim().isEmpty() ? udid.toString() : null;
+    }
+    
+    /**
+     * Latency and age of the current session, or null when none is running
+     */
+    public static SessionHealth getSessionHealth() {
+        return sessionHealth.get();
+    }
+    
+    public static SessionStartup getLastSessionStartup() {
+        return lastSessionStartup.get();
+    }
+    
+    /**
+     * Register how to start a session on this thread without starting it.
+     * The session is created by the first getDriver() call, so scenarios that never
+     * touch the UI never pay for one.
+     */
+    public static void deferDriver(Platform platform, Runnable sessionStarter) {
+        deferredSession.set(new DeferredSession(platform, sessionStarter));
+    }
+    
+    public static void cancelDeferredDriver() {
+        deferredSession.remove();
+    }
+    
+    public static boolean isDriverDeferred() {
+        return deferredSession.get() != null;
+    }
+    
     public static AppiumDriver getDriver() {
         AppiumDriver appiumDriver = driver.get();
+        DeferredSession deferred = deferredSession.get();
+        if (appiumDriver == null && deferred != null) {
+            // Removed first so a starter that calls getDriver() itself does not recurse
+            deferredSession.remove();
+            LOGGER.info("First UI command on this thread, starting deferred {} session", deferred.platform);
+            deferred.sessionStarter.run();
+            appiumDriver = driver.get();
+        }
         if (appiumDriver == null) {
             throw new RuntimeException("Driver not initialized. Call initializeDriver() first.");
         }
@@ -79,7 +171,9 @@ public class DriverManager {
     
     public static Platform getCurrentPlatform() {
         if (!isDriverInitialized()) {
-            return null;
+            // A deferred session already knows its platform
+            DeferredSession deferred = deferredSession.get();
+            return deferred != null ? deferred.platform : null;
         }
         
         AppiumDriver appiumDriver = getDriver();
@@ -92,29 +186,56 @@ public class DriverManager {
     }
     
     public static void quitDriver() {
+        deferredSession.remove();
         AppiumDriver appiumDriver = driver.get();
         if (appiumDriver != null) {
             try {
                 LOGGER.info("Quitting {} driver", getCurrentPlatform());
+                SessionId sessionId = appiumDriver.getSessionId();
+                LoginStateCache.getInstance().sessionEnded(sessionId != null ? sessionId.toString() : null);
                 appiumDriver.quit();
             } catch (Exception e) {
                 LOGGER.error("Error while quitting driver", e);
             } finally {
                 driver.remove();
+                sessionHealth.remove();
             }
         }
     }
     
     public static void setAppiumServerUrl(String url) {
-        appiumServerUrl = url;
+        appiumServerUrl.set(url);
         LOGGER.info("Appium server URL set to: {}", url);
     }
     
     public static String getAppiumServerUrl() {
-        return appiumServerUrl;
+        return appiumServerUrl.get();
     }
     
     public enum Platform {
         ANDROID, IOS, UNKNOWN
     }
+    
+    private static class DeferredSession {
+        private final Platform platform;
+        private final Runnable sessionStarter;
+        
+        DeferredSession(Platform platform, Runnable sessionStarter) {
+            this.platform = platform;
+            this.sessionStarter = sessionStarter;
+        }
+    }
+    
+    public static class SessionStartup {
+        private final CapabilityProfile profile;
+        private final long latencyMillis;
+        
+        public SessionStartup(CapabilityProfile profile, long latencyMillis) {
+            this.profile = profile;
+            this.latencyMillis = latencyMillis;
+        }
+        
+        public CapabilityProfile getProfile() { return profile; }
+        public long getLatencyMillis() { return latencyMillis; }
+    }
 }
\ No newline at end of file
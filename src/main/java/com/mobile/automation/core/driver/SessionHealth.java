@@ -0,0 +1,77 @@
+package com.mobile.automation.core.driver;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command latency and age of one Appium session.
+ *
+ * The first commands of a session form its baseline; the most recent ones form a
+ * rolling window. A session whose recent p90 has drifted well above its own
+ * baseline, or that is simply too old, is due for recycling at the next scenario boundary.
+ */
+public class SessionHealth {
+    private final long startedAtNanos = System.nanoTime();
+    private final long[] baseline;
+    private final long[] recent;
+    private int baselineCount;
+    private int recentCount;
+    private int recentNext;
+    private long baselineP90 = -1;
+    // Counts the scenario that started the session
+    private int scenarios = 1;
+
+    public SessionHealth(int baselineSize, int windowSize) {
+        this.baseline = new long[Math.max(1, baselineSize)];
+        this.recent = new long[Math.max(1, windowSize)];
+    }
+
+    public synchronized void recordCommand(long latencyMillis) {
+        if (baselineCount < baseline.length) {
+            baseline[baselineCount++] = latencyMillis;
+            if (baselineCount == baseline.length) {
+                baselineP90 = p90(baseline, baselineCount);
+            }
+            return;
+        }
+        recent[recentNext] = latencyMillis;
+        recentNext = (recentNext + 1) % recent.length;
+        recentCount = Math.min(recentCount + 1, recent.length);
+    }
+
+    public synchronized void scenarioStarted() {
+        scenarios++;
+    }
+
+    /**
+     * Why this session should be replaced, or null while it is healthy.
+     * A zero or negative limit disables that check.
+     */
+    public synchronized String getRecycleReason(double driftFactor, int maxScenarios, int maxMinutes) {
+        if (maxScenarios > 0 && scenarios >= maxScenarios) {
+            return String.format("served %d scenarios", scenarios);
+        }
+        long ageMinutes = TimeUnit.NANOSECONDS.toMinutes(System.nanoTime() - startedAtNanos);
+        if (maxMinutes > 0 && ageMinutes >= maxMinutes) {
+            return String.format("running for %d minutes", ageMinutes);
+        }
+        if (driftFactor > 0 && baselineP90 >= 0 && recentCount == recent.length) {
+            long recentP90 = p90(recent, recentCount);
+            // Floor the baseline so a session of near-zero latencies is not recycled over a few ms
+            if (recentP90 > Math.max(baselineP90, 1) * driftFactor) {
+                return String.format("command p90 drifted from %d ms to %d ms", baselineP90, recentP90);
+            }
+        }
+        return null;
+    }
+
+    public synchronized int getScenarios() { return scenarios; }
+    public synchronized long getBaselineP90() { return baselineP90; }
+    public synchronized long getRecentP90() { return recentCount == 0 ? -1 : p90(recent, recentCount); }
+
+    private static long p90(long[] samples, int count) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(count * 0.9) - 1];
+    }
+}
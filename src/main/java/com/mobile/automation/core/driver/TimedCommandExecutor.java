@@ -0,0 +1,69 @@
+package com.mobile.automation.core.driver;
+
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+import java.net.URL;
+import java.util.Set;
+
+/**
+ * Appium command executor that feeds the latency of every successful command
+ * into the session's {@link SessionHealth}, and runs an optional callback after
+ * each command on the thread that issued it.
+ */
+public class TimedCommandExecutor extends AppiumCommandExecutor {
+    // Session lifecycle, screen recording and element lookups (which may wait out the implicit wait)
+    // are not representative of device responsiveness
+    private static final Set<String> UNTIMED_COMMANDS = Set.of(
+        DriverCommand.NEW_SESSION,
+        DriverCommand.QUIT,
+        DriverCommand.FIND_ELEMENT,
+        DriverCommand.FIND_ELEMENTS,
+        DriverCommand.FIND_CHILD_ELEMENT,
+        DriverCommand.FIND_CHILD_ELEMENTS,
+        "startRecordingScreen",
+        "stopRecordingScreen"
+    );
+    private static final Set<String> RECORDING_COMMANDS = Set.of(
+        DriverCommand.NEW_SESSION,
+        DriverCommand.QUIT,
+        "startRecordingScreen",
+        "stopRecordingScreen"
+    );
+
+    private final SessionHealth health;
+    private volatile Runnable afterCommand;
+
+    public TimedCommandExecutor(URL serverUrl, SessionHealth health) {
+        super(MobileCommand.commandRepository, serverUrl);
+        this.health = health;
+    }
+
+    @Override
+    public Response execute(Command command) throws WebDriverException {
+        long startNanos = System.nanoTime();
+        // A failed command throws, so only successful ones reach the timing below
+        Response response = super.execute(command);
+        if (!UNTIMED_COMMANDS.contains(command.getName())) {
+            health.recordCommand((System.nanoTime() - startNanos) / 1_000_000);
+        }
+        Runnable callback = afterCommand;
+        if (callback != null && !RECORDING_COMMANDS.contains(command.getName())) {
+            callback.run();
+        }
+        return response;
+    }
+
+    /**
+     * Run a callback after every command except session lifecycle and screen recording ones,
+     * so work that needs the session (recording rotation) happens between commands
+     * instead of concurrently with them. Pass null to remove it.
+     */
+    public void setAfterCommand(Runnable callback) {
+        this.afterCommand = callback;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mobile.automation.core.recording;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.AndroidStartScreenRecordingOptions;
+import io.appium.java_client.ios.IOSStartScreenRecordingOptions;
+import io.appium.java_client.screenrecording.CanRecordScreen;
+
+import java.time.Duration;
+import java.util.Base64;
+
+public class AppiumScreenRecorder implements ScreenRecorder {
+    private final AppiumDriver driver;
+
+    public AppiumScreenRecorder(AppiumDriver driver) {
+        if (!(driver instanceof CanRecordScreen)) {
+            throw new IllegalArgumentException("Driver does not support screen recording: " + driver.getClass().getSimpleName());
+        }
+        this.driver = driver;
+    }
+
+    @Override
+    public void start(Duration timeLimit) {
+        CanRecordScreen recorder = (CanRecordScreen) driver;
+        if (driver instanceof AndroidDriver) {
+            recorder.startRecordingScreen(new AndroidStartScreenRecordingOptions().withTimeLimit(timeLimit));
+        } else {
+            recorder.startRecordingScreen(new IOSStartScreenRecordingOptions().withTimeLimit(timeLimit));
+        }
+    }
+
+    @Override
+    public byte[] stop() {
+        String encoded = ((CanRecordScreen) driver).stopRecordingScreen();
+        return encoded == null || encoded.isEmpty() ? new byte[0] : Base64.getMimeDecoder().decode(encoded);
+    }
+}
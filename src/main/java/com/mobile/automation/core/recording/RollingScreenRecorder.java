@@ -0,0 +1,222 @@
+package com.mobile.automation.core.recording;
+
+import io.appium.java_client.AppiumDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Records a session in short segments and only keeps the tail of it.
+ * Segments are rotated by {@link #rotateIfDue()} from the thread that drives the
+ * session, between commands, so rotation never races a test command on the same
+ * session; a waiting step keeps rotating as long as it polls the driver. On success
+ * everything is dropped, on failure the last segments are written and stitched
+ * on a background thread.
+ */
+public class RollingScreenRecorder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RollingScreenRecorder.class);
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "screen-recording-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile Function<AppiumDriver, ScreenRecorder> recorderFactory = AppiumScreenRecorder::new;
+    private static volatile Boolean ffmpegAvailable;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            WRITER.shutdown();
+            try {
+                WRITER.awaitTermination(60, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "screen-recording-shutdown"));
+    }
+
+    private final ScreenRecorder recorder;
+    private final Duration segmentLength;
+    private final Duration keepDuration;
+    private final String ffmpegCommand;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long segmentStartNanos;
+    private boolean recording;
+    private boolean rotationFailed;
+
+    public RollingScreenRecorder(ScreenRecorder recorder, Duration segmentLength, Duration keepDuration, String ffmpegCommand) {
+        this.recorder = recorder;
+        this.segmentLength = segmentLength;
+        this.keepDuration = keepDuration;
+        this.ffmpegCommand = ffmpegCommand;
+    }
+
+    public static RollingScreenRecorder forDriver(AppiumDriver driver, Duration segmentLength,
+                                                  Duration keepDuration, String ffmpegCommand) {
+        return new RollingScreenRecorder(recorderFactory.apply(driver), segmentLength, keepDuration, ffmpegCommand);
+    }
+
+    public static void setRecorderFactory(Function<AppiumDriver, ScreenRecorder> factory) {
+        recorderFactory = factory;
+    }
+
+    public synchronized void start() {
+        startSegment();
+    }
+
+    /**
+     * Close the current segment and start the next once it is due.
+     * Must be called from the thread that drives the session, between commands.
+     */
+    public synchronized void rotateIfDue() {
+        if (recording && !rotationFailed && System.nanoTime() - segmentStartNanos >= segmentLength.toNanos()) {
+            closeSegment();
+            try {
+                startSegment();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to start next screen recording segment, keeping what was recorded: {}", e.getMessage());
+                rotationFailed = true;
+            }
+        }
+    }
+
+    public synchronized void discard() {
+        if (recording) {
+            try {
+                recorder.stop();
+            } catch (Exception e) {
+                LOGGER.debug("Failed to stop screen recording: {}", e.getMessage());
+            }
+            recording = false;
+        }
+        segments.clear();
+    }
+
+    /**
+     * Stop recording and hand the retained tail to the writer thread.
+     * The future completes with the written file, or null if it could not be written.
+     */
+    public synchronized Future<Path> finish(Path outputDirectory) {
+        if (recording) {
+            closeSegment();
+        }
+        List<Segment> retained = new ArrayList<>(segments);
+        segments.clear();
+
+        boolean stitch = isFfmpegAvailable(ffmpegCommand);
+        Path target = outputDirectory.resolve(stitch ? "recording.mp4" : "recording.m3u");
+        return WRITER.submit(() -> write(retained, outputDirectory, target, stitch));
+    }
+
+    private void startSegment() {
+        // The device limit is only a safety net should a rotation be delayed by a busy session
+        recorder.start(segmentLength.multipliedBy(3));
+        segmentStartNanos = System.nanoTime();
+        recording = true;
+    }
+
+    private void closeSegment() {
+        long endNanos = System.nanoTime();
+        try {
+            byte[] video = recorder.stop();
+            if (video.length > 0) {
+                segments.addLast(new Segment(video, endNanos));
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Failed to collect screen recording segment: {}", e.getMessage());
+        }
+        recording = false;
+
+        // Drop the oldest segments once the rest still covers the retention window
+        while (segments.size() > 1 && endNanos - segments.peekFirst().endNanos >= keepDuration.toNanos()) {
+            segments.removeFirst();
+        }
+    }
+
+    private Path write(List<Segment> retained, Path outputDirectory, Path target, boolean stitch) {
+        try {
+            Files.createDirectories(outputDirectory);
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < retained.size(); i++) {
+                String name = String.format("segment-%03d.mp4", i);
+                Files.write(outputDirectory.resolve(name), retained.get(i).video);
+                names.add(name);
+            }
+
+            if (stitch) {
+                Path list = outputDirectory.resolve("segments.txt");
+                List<String> lines = new ArrayList<>();
+                for (String name : names) {
+                    lines.add("file '" + name + "'");
+                }
+                Files.write(list, lines, StandardCharsets.UTF_8);
+                Process process = new ProcessBuilder(ffmpegCommand, "-y", "-loglevel", "error", "-f", "concat",
+                        "-safe", "0", "-i", list.getFileName().toString(), "-c", "copy", target.getFileName().toString())
+                    .directory(outputDirectory.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+                if (!process.waitFor(60, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                    process.destroyForcibly();
+                    LOGGER.warn("ffmpeg could not stitch recording in {}", outputDirectory);
+                    return null;
+                }
+            } else {
+                // Without ffmpeg a playlist plays the segments back to back in most players
+                Files.write(target, names, StandardCharsets.UTF_8);
+            }
+            LOGGER.info("Failure recording written: {} ({} segments)", target, retained.size());
+            return target;
+        } catch (IOException e) {
+            LOGGER.error("Failed to write failure recording to {}", outputDirectory, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private static boolean isFfmpegAvailable(String command) {
+        if (command == null || command.isEmpty()) {
+            return false;
+        }
+        if (ffmpegAvailable == null) {
+            try {
+                Process process = new ProcessBuilder(command, "-version")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+                ffmpegAvailable = process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+            } catch (IOException e) {
+                ffmpegAvailable = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            LOGGER.info("ffmpeg available for recording stitching: {}", ffmpegAvailable);
+        }
+        return ffmpegAvailable;
+    }
+
+    private static class Segment {
+        private final byte[] video;
+        private final long endNanos;
+
+        Segment(byte[] video, long endNanos) {
+            this.video = video;
+            this.endNanos = endNanos;
+        }
+    }
+}
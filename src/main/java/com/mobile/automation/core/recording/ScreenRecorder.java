@@ -0,0 +1,18 @@
+package com.mobile.automation.core.recording;
+
+import java.time.Duration;
+
+/**
+ * Minimal recording contract used by {@link RollingScreenRecorder}.
+ * The default implementation talks to Appium; tests can plug in a local stub
+ * through {@link RollingScreenRecorder#setRecorderFactory}.
+ */
+public interface ScreenRecorder {
+
+    void start(Duration timeLimit);
+
+    /**
+     * Stop the current recording and return the encoded video (mp4) bytes.
+     */
+    byte[] stop();
+}
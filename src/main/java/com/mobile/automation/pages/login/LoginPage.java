@@ -0,0 +1,66 @@
+package com.mobile.automation.pages.login;
+
+import com.mobile.automation.core.base.BasePage;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+
+/**
+ * Login screen of the app under test.
+ *
+ * The repository ships no login screen, so locators come from configuration
+ * (mobile.login.locator.*) as {@code id:<resource-id>}, {@code accessibility:<id>}
+ * or {@code xpath:<expression>}; a bare value is taken as an id.
+ */
+public class LoginPage extends BasePage {
+    private static final String LOCATOR_PREFIX = "mobile.login.locator.";
+    
+    public LoginPage() {
+        super();
+    }
+    
+    public void enterUsername(String username) {
+        sendKeys(locator("username"), username);
+    }
+    
+    public void enterPassword(String password) {
+        sendKeys(locator("password"), password);
+        hideKeyboard();
+    }
+    
+    public void tapLogin() {
+        click(locator("submit"));
+    }
+    
+    public void login(String username, String password) {
+        logger.info("Logging in as: {}", username);
+        enterUsername(username);
+        enterPassword(password);
+        tapLogin();
+    }
+    
+    /**
+     * Whether the authenticated start screen is shown
+     */
+    public boolean isAuthenticated() {
+        return isElementDisplayed(locator("authenticated"));
+    }
+    
+    @Override
+    public boolean isPageDisplayed() {
+        return isElementDisplayed(locator("username")) && isElementDisplayed(locator("submit"));
+    }
+    
+    private By locator(String name) {
+        String value = config.getProperty(LOCATOR_PREFIX + name, "").trim();
+        if (value.isEmpty()) {
+            throw new IllegalStateException("Login locator not configured: " + LOCATOR_PREFIX + name);
+        }
+        if (value.startsWith("accessibility:")) {
+            return AppiumBy.accessibilityId(value.substring("accessibility:".length()));
+        }
+        if (value.startsWith("xpath:")) {
+            return AppiumBy.xpath(value.substring("xpath:".length()));
+        }
+        return AppiumBy.id(value.startsWith("id:") ? value.substring("id:".length()) : value);
+    }
+}
@@ -0,0 +1,84 @@
+package com.mobile.automation.platforms.android;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thin wrapper around host-side adb for device work that must happen outside
+ * an Appium session (install checks, data clears, device preparation).
+ * Each call is one adb round trip; callers batch commands into a single shell line.
+ */
+public class AdbShell {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdbShell.class);
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private final String adbCommand;
+    private final String udid;
+
+    public AdbShell(String adbCommand, String udid) {
+        this.adbCommand = adbCommand != null && !adbCommand.isEmpty() ? adbCommand : defaultAdbCommand();
+        this.udid = udid;
+    }
+
+    public String shell(String command) throws IOException {
+        List<String> args = new ArrayList<>();
+        args.add(adbCommand);
+        if (udid != null && !udid.isEmpty()) {
+            args.add("-s");
+            args.add(udid);
+        }
+        args.add("shell");
+        args.add(command);
+
+        LOGGER.debug("adb{} shell {}", udid != null ? " -s " + udid : "", command);
+        // Output goes to a file so a hung adb cannot block us on a pipe read before the timeout applies
+        Path output = Files.createTempFile("adb-shell", ".out");
+        try {
+            Process process = new ProcessBuilder(args)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+            try {
+                if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                    throw new IOException("adb shell timed out: " + command);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+                throw new IOException("Interrupted while running adb shell", e);
+            }
+            String result = new String(Files.readAllBytes(output), StandardCharsets.UTF_8);
+            if (process.exitValue() != 0) {
+                throw new IOException("adb shell failed (" + process.exitValue() + "): " + result.trim());
+            }
+            return result;
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+
+    public String getUdid() {
+        return udid;
+    }
+
+    private static String defaultAdbCommand() {
+        String androidHome = System.getenv("ANDROID_HOME");
+        if (androidHome != null) {
+            File adb = new File(androidHome, "platform-tools" + File.separator + "adb");
+            if (adb.canExecute()) {
+                return adb.getPath();
+            }
+        }
+        return "adb";
+    }
+}
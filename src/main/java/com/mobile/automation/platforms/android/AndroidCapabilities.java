@@ -79,4 +79,15 @@ public class AndroidCapabilities {
         LOGGER.info("Created Android browser capabilities for: {}", browserName);
         return capabilities;
     }
+    
+    public static DesiredCapabilities applyWarmSessionOptions(DesiredCapabilities capabilities) {
+        // UiAutomator2 server, settings app and device state are already in place on a warm device
+        capabilities.setCapability("skipServerInstallation", true);
+        capabilities.setCapability("skipDeviceInitialization", true);
+        capabilities.setCapability("disableWindowAnimation", true);
+        capabilities.setCapability("appWaitForLaunch", false);
+        
+        LOGGER.debug("Applied warm session options to Android capabilities");
+        return capabilities;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.mobile.automation.platforms.android;
+
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Avoids reinstalling an APK that is already on the device.
+ *
+ * The local APK is hashed once (keyed by path, size and mtime) and compared with
+ * the SHA-256 of the installed package's base.apk on the device. Identical
+ * content means identical version and signature, so the session reuses the
+ * installed app after a cheap `pm clear`. Otherwise the APK is installed as before.
+ */
+public class ApkInstallCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApkInstallCache.class);
+    private static final ApkInstallCache INSTANCE = new ApkInstallCache();
+
+    private final Map<String, String> localHashes = new ConcurrentHashMap<>();
+
+    private ApkInstallCache() {
+    }
+
+    public static ApkInstallCache getInstance() {
+        return INSTANCE;
+    }
+
+    public InstallPlan plan(String apkPath, String appPackage, String appActivity, AdbShell adb) {
+        if (appPackage == null || appPackage.isEmpty()) {
+            LOGGER.info("No app package configured, installing {} without install cache", apkPath);
+            return InstallPlan.install(AndroidCapabilities.getApkCapabilities(apkPath));
+        }
+
+        try {
+            String apkHash = hashApk(Paths.get(apkPath));
+
+            // Always asked, since the app may have been uninstalled or replaced since the last session
+            if (apkHash.equals(installedHash(adb, appPackage))) {
+                adb.shell("pm clear " + appPackage);
+                LOGGER.info("{} already installed with identical content, cleared app data instead of reinstalling", appPackage);
+                return InstallPlan.reuse(AndroidCapabilities.getCustomAppCapabilities(appPackage, appActivity));
+            }
+
+            LOGGER.info("Installed {} differs from {}, installing", appPackage, apkPath);
+            return InstallPlan.install(AndroidCapabilities.getApkCapabilities(apkPath));
+        } catch (IOException e) {
+            LOGGER.warn("Install cache unavailable ({}), falling back to full APK install", e.getMessage());
+            return InstallPlan.install(AndroidCapabilities.getApkCapabilities(apkPath));
+        }
+    }
+
+    private String installedHash(AdbShell adb, String appPackage) throws IOException {
+        // Single round trip: resolve base.apk and hash it on the device
+        String output = adb.shell("p=$(pm path " + appPackage + " | head -n 1 | cut -d: -f2); "
+            + "if [ -n \"$p\" ]; then sha256sum \"$p\"; fi").trim();
+        if (output.isEmpty()) {
+            return null;
+        }
+        return output.split("\\s+")[0].toLowerCase();
+    }
+
+    private String hashApk(Path apk) throws IOException {
+        String key = apk.toAbsolutePath() + "|" + Files.size(apk) + "|" + Files.getLastModifiedTime(apk).toMillis();
+        String cached = localHashes.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        try (InputStream in = new DigestInputStream(Files.newInputStream(apk), MessageDigest.getInstance("SHA-256"))) {
+            byte[] buffer = new byte[64 * 1024];
+            while (in.read(buffer) != -1) {
+                // Digest is updated as the stream is read
+            }
+            byte[] digest = ((DigestInputStream) in).getMessageDigest().digest();
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            localHashes.put(key, hex.toString());
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static class InstallPlan {
+        private final DesiredCapabilities capabilities;
+        private final boolean reuseInstalled;
+
+        private InstallPlan(DesiredCapabilities capabilities, boolean reuseInstalled) {
+            this.capabilities = capabilities;
+            this.reuseInstalled = reuseInstalled;
+        }
+
+        static InstallPlan reuse(DesiredCapabilities capabilities) {
+            return new InstallPlan(capabilities, true);
+        }
+
+        static InstallPlan install(DesiredCapabilities capabilities) {
+            return new InstallPlan(capabilities, false);
+        }
+
+        public DesiredCapabilities getCapabilities() { return capabilities; }
+        public boolean isReuseInstalled() { return reuseInstalled; }
+
+        /**
+         * Reset flags decided by the plan take precedence over the generic configuration.
+         * An install keeps the app afterwards (no fullReset) so the next session can reuse it.
+         */
+        public void applyResetPolicy(DesiredCapabilities target) {
+            if (reuseInstalled) {
+                target.setCapability("noReset", true);
+                target.setCapability("fullReset", false);
+            } else {
+                target.setCapability("noReset", false);
+                target.setCapability("fullReset", false);
+                target.setCapability("enforceAppInstall", true);
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.mobile.automation.platforms.android;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Puts an Android device into a test-friendly state before a session starts.
+ *
+ * All pending operations are joined into one adb shell line, so preparation costs a
+ * single round trip. Device-wide settings are remembered per udid and not re-applied;
+ * clearing app data and granting permissions run for every session, since `pm clear`
+ * also revokes the grants. Operations run in declaration order, so grants follow the clear.
+ * Preparation runs before Appium installs the app, so app operations are guarded by
+ * `pm path` and reported as skipped when the package is not installed yet.
+ */
+public class DevicePreparation {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DevicePreparation.class);
+    private static final String FAILURE_MARKER = "PREP_FAILED:";
+    private static final String SKIPPED_MARKER = "PREP_SKIPPED:";
+    private static final Set<String> APPLIED = ConcurrentHashMap.newKeySet();
+
+    public enum Operation {
+        ANIMATIONS(true, false),
+        CLEAR_DATA(false, true),
+        PERMISSIONS(false, true),
+        SCREEN_TIMEOUT(true, false);
+
+        private final boolean sticky;
+        private final boolean needsApp;
+
+        Operation(boolean sticky, boolean needsApp) {
+            this.sticky = sticky;
+            this.needsApp = needsApp;
+        }
+
+        public boolean isSticky() {
+            return sticky;
+        }
+
+        public boolean needsApp() {
+            return needsApp;
+        }
+
+        /**
+         * Parses names such as "animations", "clearData" or "screen_timeout"
+         */
+        public static Operation fromName(String name) {
+            String normalized = name.trim().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+            return Operation.valueOf(normalized);
+        }
+    }
+
+    private final AdbShell adb;
+    private final String appPackage;
+    private final List<String> permissions;
+    private final int screenTimeoutMillis;
+
+    public DevicePreparation(AdbShell adb, String appPackage, List<String> permissions, int screenTimeoutMillis) {
+        this.adb = adb;
+        this.appPackage = appPackage;
+        this.permissions = permissions;
+        this.screenTimeoutMillis = screenTimeoutMillis;
+    }
+
+    public static Set<Operation> parseOperations(String value) {
+        Set<Operation> operations = EnumSet.noneOf(Operation.class);
+        if (value == null) {
+            return operations;
+        }
+        for (String name : value.split(",")) {
+            if (name.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                operations.add(Operation.fromName(name));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unknown device preparation '{}', ignoring", name.trim());
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Runs the operations not yet applied on this device in one adb call.
+     * Failures are logged and never fail the session.
+     *
+     * @return app operations skipped because the package is not installed yet
+     */
+    public Set<Operation> prepare(Collection<Operation> operations) {
+        Set<Operation> skipped = EnumSet.noneOf(Operation.class);
+        Map<Operation, String> pending = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            if (operation.isSticky() && APPLIED.contains(cacheKey(operation))) {
+                continue;
+            }
+            String commands = commandsFor(operation);
+            if (commands != null) {
+                pending.put(operation, commands);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            LOGGER.debug("Device {} already prepared for {}", adb.getUdid(), operations);
+            return skipped;
+        }
+
+        // Each operation reports its own failure so the rest of the batch still counts
+        List<String> batch = new ArrayList<>();
+        pending.forEach((operation, commands) -> {
+            String step = "{ " + commands + "; } >/dev/null 2>&1 || echo " + FAILURE_MARKER + operation.name();
+            if (operation.needsApp()) {
+                step = "if pm path " + appPackage + " >/dev/null 2>&1; then " + step
+                    + "; else echo " + SKIPPED_MARKER + operation.name() + "; fi";
+            }
+            batch.add(step);
+        });
+
+        long start = System.currentTimeMillis();
+        String output;
+        try {
+            output = adb.shell(String.join("; ", batch));
+        } catch (IOException e) {
+            LOGGER.warn("Device preparation failed on {}: {}", adb.getUdid(), e.getMessage());
+            return skipped;
+        }
+
+        for (Operation operation : pending.keySet()) {
+            if (output.contains(SKIPPED_MARKER + operation.name())) {
+                LOGGER.info("Device preparation {} skipped on {}, {} is not installed yet", operation, adb.getUdid(), appPackage);
+                skipped.add(operation);
+            } else if (output.contains(FAILURE_MARKER + operation.name())) {
+                LOGGER.warn("Device preparation {} failed on {}", operation, adb.getUdid());
+            } else if (operation.isSticky()) {
+                APPLIED.add(cacheKey(operation));
+            }
+        }
+        LOGGER.info("Prepared device {} ({}) in {} ms", adb.getUdid(), pending.keySet(), System.currentTimeMillis() - start);
+        return skipped;
+    }
+
+    /**
+     * Forget what was applied to a device, e.g. after a reboot or factory reset
+     */
+    public static void invalidate(String udid) {
+        APPLIED.removeIf(key -> key.startsWith(udid + "|"));
+    }
+
+    private String commandsFor(Operation operation) {
+        switch (operation) {
+            case ANIMATIONS:
+                return "settings put global window_animation_scale 0 && "
+                    + "settings put global transition_animation_scale 0 && "
+                    + "settings put global animator_duration_scale 0";
+            case PERMISSIONS:
+                if (appPackage == null || permissions.isEmpty()) {
+                    return null;
+                }
+                List<String> grants = new ArrayList<>();
+                for (String permission : permissions) {
+                    grants.add("pm grant " + appPackage + " " + permission);
+                }
+                return String.join(" && ", grants);
+            case CLEAR_DATA:
+                return appPackage != null ? "pm clear " + appPackage : null;
+            case SCREEN_TIMEOUT:
+                return "settings put system screen_off_timeout " + screenTimeoutMillis + " && svc power stayon true";
+            default:
+                return null;
+        }
+    }
+
+    private String cacheKey(Operation operation) {
+        String key = adb.getUdid() + "|" + operation.name();
+        if (operation == Operation.SCREEN_TIMEOUT) {
+            key += "|" + screenTimeoutMillis;
+        }
+        return key;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.api;
+
+import com.example.config.FrameworkConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+public class ApiHttpClientTest {
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        byte[] body = "{\"detail\":\"not read by the caller\"}".getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/status", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(exchange.getRequestMethod().equals("DELETE") ? 200 : 500, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void statusOnlyCallsReturnTheirConnectionToThePool() throws Exception {
+        int requests = FrameworkConfig.getInstance().getHttpMaxPerRoute() + 5;
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            // With leaked connections the request after maxPerRoute waits for a lease forever
+            Future<?> calls = caller.submit(() -> {
+                for (int i = 0; i < requests; i++) {
+                    String method = i % 2 == 0 ? "DELETE" : "POST";
+                    int status = given(ApiHttpClient.specFor(baseUrl)).request(method, "/status").statusCode();
+                    Assert.assertEquals(status, i % 2 == 0 ? 200 : 500);
+                }
+            });
+            calls.get(30, TimeUnit.SECONDS);
+        } finally {
+            caller.shutdownNow();
+        }
+
+        Assert.assertEquals(ApiHttpClient.getMetrics().get("leased"), 0);
+        Assert.assertEquals(ApiHttpClient.getMetrics().get("pending"), 0);
+    }
+}
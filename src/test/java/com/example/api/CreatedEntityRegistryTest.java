@@ -0,0 +1,40 @@
+package com.example.api;
+
+import com.mobile.automation.config.ConfigContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class CreatedEntityRegistryTest {
+
+    @Test
+    public void entitiesKeepTheContextTheyWereCreatedIn() {
+        ConfigContext staging = ConfigContext.of("android", "staging");
+        try (ConfigContext.Scope scope = staging.bind()) {
+            CreatedEntityRegistry.track("assignment", "/v1/assignments/", "a-1");
+        }
+        CreatedEntityRegistry.track("announcement", "/v1/announcements/", "b-1");
+
+        List<CreatedEntityRegistry.TrackedEntity> entities = CreatedEntityRegistry.drainScenario();
+        Assert.assertEquals(entities.get(0).getContext(), staging);
+        Assert.assertEquals(entities.get(1).getContext(), ConfigContext.DEFAULT);
+    }
+
+    @Test
+    public void runScopeKeepsEntitiesOfOtherThreads() throws Exception {
+        ConfigContext staging = ConfigContext.of("android", "staging");
+        Thread worker = new Thread(() -> {
+            try (ConfigContext.Scope scope = staging.bind()) {
+                CreatedEntityRegistry.track("assignment", "/v1/assignments/", "a-2");
+            }
+        });
+        worker.start();
+        worker.join();
+
+        List<CreatedEntityRegistry.TrackedEntity> run = CreatedEntityRegistry.drainRun();
+        Assert.assertEquals(run.size(), 1);
+        Assert.assertEquals(run.get(0).getPath(), "/v1/assignments/a-2");
+        Assert.assertEquals(run.get(0).getContext(), staging);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JwtValidatorTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private KeyPair keyPair;
+    private HttpServer jwksServer;
+    private String jwksUrl;
+
+    @BeforeClass
+    public void startJwksServer() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("kid", "test-key");
+        jwk.put("n", BASE64URL.encodeToString(unsigned(publicKey.getModulus())));
+        jwk.put("e", BASE64URL.encodeToString(unsigned(publicKey.getPublicExponent())));
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", List.of(jwk)));
+
+        jwksServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        jwksServer.createContext("/jwks", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        jwksServer.start();
+        jwksUrl = "http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/jwks";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopJwksServer() {
+        if (jwksServer != null) {
+            jwksServer.stop(0);
+        }
+    }
+
+    @Test
+    public void acceptsSignedTokenWithValidClaims() throws Exception {
+        JwtValidator validator = new JwtValidator(jwksUrl, "mobile-app");
+        String token = sign("RS256", claims(3600, 0, "mobile-app"));
+
+        Assert.assertEquals(validator.validate(token), JwtValidator.Result.VALID);
+        Assert.assertEquals(validator.validate("Bearer " + token), JwtValidator.Result.VALID);
+    }
+
+    @Test
+    public void rejectsTamperedSignature() throws Exception {
+        JwtValidator validator = new JwtValidator(jwksUrl, null);
+        String token = sign("RS256", claims(3600, 0, null));
+        String otherClaims = BASE64URL.encodeToString(objectMapper.writeValueAsBytes(claims(7200, 0, null)));
+        String[] parts = token.split("\\.");
+
+        Assert.assertEquals(validator.validate(parts[0] + "." + otherClaims + "." + parts[2]), JwtValidator.Result.INVALID);
+    }
+
+    @Test
+    public void rejectsExpiredToken() throws Exception {
+        JwtValidator validator = new JwtValidator(jwksUrl, null);
+        Assert.assertEquals(validator.validate(sign("RS256", claims(-120, 0, null))), JwtValidator.Result.INVALID);
+    }
+
+    @Test
+    public void toleratesClockSkewOnExpiry() throws Exception {
+        JwtValidator validator = new JwtValidator(jwksUrl, null);
+        Assert.assertEquals(validator.validate(sign("RS256", claims(-10, 0, null))), JwtValidator.Result.VALID);
+    }
+
+    @Test
+    public void rejectsTokenNotYetValid() throws Exception {
+        JwtValidator validator = new JwtValidator(jwksUrl, null);
+        Assert.assertEquals(validator.validate(sign("RS256", claims(3600, 600, null))), JwtValidator.Result.INVALID);
+    }
+
+    @Test
+    public void checksAudienceInStringAndArrayForm() throws Exception {
+        JwtValidator validator = new JwtValidator(jwksUrl, "mobile-app");
+        Assert.assertEquals(validator.validate(sign("RS256", claims(3600, 0, "web-app"))), JwtValidator.Result.INVALID);
+        Assert.assertEquals(validator.validate(sign("RS256", claims(3600, 0, List.of("web-app", "mobile-app")))),
+            JwtValidator.Result.VALID);
+    }
+
+    @Test
+    public void unsupportedAlgorithmIsUnverifiable() throws Exception {
+        JwtValidator validator = new JwtValidator(jwksUrl, null);
+        String header = BASE64URL.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = BASE64URL.encodeToString(objectMapper.writeValueAsBytes(claims(3600, 0, null)));
+
+        Assert.assertEquals(validator.validate(header + "." + payload + ".c2lnbmF0dXJl"), JwtValidator.Result.UNVERIFIABLE);
+    }
+
+    @Test
+    public void opaqueTokenIsUnverifiable() {
+        JwtValidator validator = new JwtValidator(jwksUrl, null);
+        Assert.assertEquals(validator.validate("Bearer 2YotnFZFEjr1zCsicMWpAA"), JwtValidator.Result.UNVERIFIABLE);
+    }
+
+    private String sign(String alg, Map<String, Object> claims) throws Exception {
+        String header = BASE64URL.encodeToString(objectMapper.writeValueAsBytes(Map.of("alg", alg, "kid", "test-key")));
+        String payload = BASE64URL.encodeToString(objectMapper.writeValueAsBytes(claims));
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+        return header + "." + payload + "." + BASE64URL.encodeToString(signature.sign());
+    }
+
+    private static Map<String, Object> claims(long expiresInSeconds, long notBeforeInSeconds, Object audience) {
+        long now = System.currentTimeMillis() / 1000;
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", "user");
+        claims.put("exp", now + expiresInSeconds);
+        if (notBeforeInSeconds != 0) {
+            claims.put("nbf", now + notBeforeInSeconds);
+        }
+        if (audience != null) {
+            claims.put("aud", audience);
+        }
+        return claims;
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+}
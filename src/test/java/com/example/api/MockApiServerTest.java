@@ -0,0 +1,53 @@
+package com.example.api;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class MockApiServerTest {
+    private static final String FORM = "application/x-www-form-urlencoded; charset=ISO-8859-1";
+    private static final String JSON = "application/json";
+
+    @Test
+    public void tokenRequestsAreKeyedByGrantTypeAndUsername() {
+        String key = MockApiServer.requestKey("POST", "/auth/oauth/token", FORM,
+            bytes("scope=openid&grant_type=password&username=staff%40example.com&password=secret&client_id=app"));
+
+        Assert.assertEquals(key, "POST /auth/oauth/token form:grant_type=password&username=staff@example.com");
+        Assert.assertEquals(MockApiServer.requestKey("POST", "/auth/oauth/token", FORM,
+                bytes("grant_type=password&username=staff%40example.com&password=changed&client_id=app")), key);
+        Assert.assertNotEquals(MockApiServer.requestKey("POST", "/auth/oauth/token", FORM,
+                bytes("grant_type=password&username=student%40example.com&password=secret")), key);
+    }
+
+    @Test
+    public void refreshRequestsIgnoreTheRefreshToken() {
+        Assert.assertEquals(
+            MockApiServer.requestKey("POST", "/auth/oauth/token", FORM, bytes("grant_type=refresh_token&refresh_token=r1")),
+            MockApiServer.requestKey("POST", "/auth/oauth/token", FORM, bytes("grant_type=refresh_token&refresh_token=r2")));
+    }
+
+    @Test
+    public void generatedIdsAndTimestampsDoNotChangeTheKey() {
+        String first = "{\"title\":\"Test Assignment " + UniqueIds.next("assignment")
+            + "\",\"dueDate\":\"2026-10-26T09:15:02.123Z\"}";
+        String second = "{\"title\":\"Test Assignment " + UniqueIds.next("assignment")
+            + "\",\"dueDate\":\"2026-11-02T17:40:55.9Z\"}";
+
+        Assert.assertEquals(MockApiServer.requestKey("POST", "/backend/v1/assignments", JSON, bytes(first)),
+            MockApiServer.requestKey("POST", "/backend/v1/assignments", JSON, bytes(second)));
+        Assert.assertNotEquals(MockApiServer.requestKey("POST", "/backend/v1/assignments", JSON, bytes(first)),
+            MockApiServer.requestKey("POST", "/backend/v1/assignments", JSON, bytes(first.replace("Test", "Other"))));
+    }
+
+    @Test
+    public void getRequestsIgnoreTheBody() {
+        Assert.assertEquals(MockApiServer.requestKey("GET", "/media/v1/users?page=2", JSON, bytes("{}")),
+            "GET /media/v1/users?page=2");
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.api;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class OrganizationIndexTest {
+    private static final MediaService.Organization CHESS = new MediaService.Organization("1", "Chess Club", null);
+    private static final MediaService.Organization ROBOTICS = new MediaService.Organization("2", "Robotics & Coding", null);
+    private static final MediaService.Organization CAFE = new MediaService.Organization("3", "Café  Société", null);
+
+    private final OrganizationIndex index = new OrganizationIndex(List.of(CHESS, ROBOTICS, CAFE), 60_000);
+
+    @Test
+    public void findsById() {
+        Assert.assertSame(index.findById("2"), ROBOTICS);
+        Assert.assertNull(index.findById("42"));
+    }
+
+    @Test
+    public void findsByExactName() {
+        Assert.assertSame(index.findByName("Chess Club"), CHESS);
+    }
+
+    @Test
+    public void findsByNormalizedName() {
+        Assert.assertSame(index.findByName("chess club"), CHESS);
+        Assert.assertSame(index.findByName("  ROBOTICS coding "), ROBOTICS);
+        Assert.assertSame(index.findByName("cafe societe"), CAFE);
+        Assert.assertNull(index.findByName("Drama Club"));
+    }
+
+    @Test
+    public void firstOrganizationWinsOnDuplicates() {
+        MediaService.Organization duplicate = new MediaService.Organization("1", "chess club", null);
+        OrganizationIndex withDuplicate = new OrganizationIndex(List.of(CHESS, duplicate), 60_000);
+
+        Assert.assertSame(withDuplicate.findById("1"), CHESS);
+        Assert.assertSame(withDuplicate.findByName("CHESS CLUB"), CHESS);
+        Assert.assertSame(withDuplicate.findByName("chess club"), duplicate);
+    }
+
+    @Test
+    public void normalizeHandlesNull() {
+        Assert.assertEquals(OrganizationIndex.normalize(null), "");
+        Assert.assertEquals(OrganizationIndex.normalize("Ümlaut—Team!"), "umlaut team");
+    }
+
+    @Test
+    public void expiresAfterTtl() throws InterruptedException {
+        OrganizationIndex shortLived = new OrganizationIndex(List.of(CHESS), 20);
+        Assert.assertFalse(shortLived.isExpired());
+        Thread.sleep(40);
+        Assert.assertTrue(shortLived.isExpired());
+        Assert.assertTrue(new OrganizationIndex(List.of(CHESS), 0).isExpired());
+    }
+
+    @Test
+    public void organizationsAreUnmodifiable() {
+        Assert.assertEquals(index.getOrganizations(), List.of(CHESS, ROBOTICS, CAFE));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> index.getOrganizations().clear());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.api;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class PagedIteratorTest {
+
+    /** Pages "1".."3" of two elements each, linked by next cursors */
+    private static final Map<String, ResultsPage<String>> PAGES = Map.of(
+        "1", new ResultsPage<>(List.of("a", "b"), "2"),
+        "2", new ResultsPage<>(List.of("c", "d"), "3"),
+        "3", new ResultsPage<>(List.of("e", "f"), null)
+    );
+
+    @Test
+    public void walksAllPagesInOrder() {
+        List<String> requested = Collections.synchronizedList(new ArrayList<>());
+        PagedIterator<String> iterator = new PagedIterator<>(() -> fetch("1", requested), next -> fetch(next, requested));
+
+        try (Stream<String> elements = iterator.stream()) {
+            Assert.assertEquals(elements.collect(Collectors.toList()), List.of("a", "b", "c", "d", "e", "f"));
+        }
+        Assert.assertEquals(requested, List.of("1", "2", "3"));
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void fetchesNothingUntilFirstElementIsRequested() {
+        AtomicInteger fetches = new AtomicInteger();
+        PagedIterator<String> iterator = new PagedIterator<>(() -> {
+            fetches.incrementAndGet();
+            return PAGES.get("1");
+        }, next -> PAGES.get(next));
+
+        Assert.assertEquals(fetches.get(), 0);
+        Assert.assertEquals(iterator.next(), "a");
+        Assert.assertEquals(fetches.get(), 1);
+        iterator.close();
+    }
+
+    @Test
+    public void prefetchesOnlyOnePageAhead() throws Exception {
+        List<String> requested = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch secondPageRequested = new CountDownLatch(1);
+        Function<String, ResultsPage<String>> nextPage = next -> {
+            ResultsPage<String> page = fetch(next, requested);
+            secondPageRequested.countDown();
+            return page;
+        };
+        PagedIterator<String> iterator = new PagedIterator<>(() -> fetch("1", requested), nextPage);
+
+        Assert.assertEquals(iterator.next(), "a");
+        Assert.assertTrue(secondPageRequested.await(5, TimeUnit.SECONDS), "Page 2 should be prefetched");
+        Thread.sleep(100);
+        // Page 3 is only requested once page 2 is being consumed
+        Assert.assertEquals(requested, List.of("1", "2"));
+        iterator.close();
+    }
+
+    @Test
+    public void closingStopsPaging() {
+        List<String> requested = Collections.synchronizedList(new ArrayList<>());
+        PagedIterator<String> iterator = new PagedIterator<>(() -> fetch("1", requested), next -> fetch(next, requested));
+
+        String match;
+        try (Stream<String> elements = iterator.stream()) {
+            match = elements.filter("b"::equals).findFirst().orElse(null);
+        }
+
+        Assert.assertEquals(match, "b");
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertFalse(requested.contains("3"));
+    }
+
+    @Test
+    public void skipsEmptyPages() {
+        Map<String, ResultsPage<String>> pages = Map.of(
+            "1", new ResultsPage<>(List.of(), "2"),
+            "2", new ResultsPage<>(List.of("x"), ""));
+        PagedIterator<String> iterator = new PagedIterator<>(() -> pages.get("1"), pages::get);
+
+        Assert.assertEquals(iterator.next(), "x");
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void prefetchFailureSurfacesToConsumer() {
+        PagedIterator<String> iterator = new PagedIterator<>(() -> PAGES.get("1"), next -> {
+            throw new IllegalStateException("page " + next + " unavailable");
+        });
+
+        Assert.assertEquals(iterator.next(), "a");
+        Assert.assertEquals(iterator.next(), "b");
+        IllegalStateException failure = Assert.expectThrows(IllegalStateException.class, iterator::hasNext);
+        Assert.assertEquals(failure.getMessage(), "page 2 unavailable");
+    }
+
+    private static ResultsPage<String> fetch(String page, List<String> requested) {
+        requested.add(page);
+        return PAGES.get(page);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.api;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimiterTest {
+
+    @Test
+    public void zeroRateDoesNotWait() {
+        RateLimiter limiter = new RateLimiter(0);
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            limiter.acquire();
+        }
+        Assert.assertTrue(elapsedMillis(start) < 100, "Unlimited acquires should not sleep");
+    }
+
+    @Test
+    public void spacesCallsByInterval() {
+        RateLimiter limiter = new RateLimiter(20);
+        long start = System.nanoTime();
+        // First permit is immediate, the next ten are 50 ms apart
+        for (int i = 0; i < 11; i++) {
+            limiter.acquire();
+        }
+        long elapsed = elapsedMillis(start);
+        Assert.assertTrue(elapsed >= 480, "Elapsed " + elapsed + " ms");
+        Assert.assertTrue(elapsed < 1500, "Elapsed " + elapsed + " ms");
+    }
+
+    @Test
+    public void rateIsSharedAcrossThreads() throws Exception {
+        RateLimiter limiter = new RateLimiter(40);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 21; i++) {
+                calls.add(pool.submit(limiter::acquire));
+            }
+            for (Future<?> call : calls) {
+                call.get(5, TimeUnit.SECONDS);
+            }
+            // 20 intervals of 25 ms, whatever the number of threads
+            long elapsed = elapsedMillis(start);
+            Assert.assertTrue(elapsed >= 480, "Elapsed " + elapsed + " ms");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void idleTimeIsNotBanked() throws Exception {
+        RateLimiter limiter = new RateLimiter(10);
+        limiter.acquire();
+        Thread.sleep(500);
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+        // After idling only one permit is free, the other two wait 100 ms each
+        long elapsed = elapsedMillis(start);
+        Assert.assertTrue(elapsed >= 180, "Elapsed " + elapsed + " ms");
+    }
+
+    @Test
+    public void interruptedWaitFailsAndKeepsInterruptFlag() {
+        RateLimiter limiter = new RateLimiter(1);
+        limiter.acquire();
+        Thread.currentThread().interrupt();
+        try {
+            limiter.acquire();
+            Assert.fail("Expected the wait to be interrupted");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(Thread.interrupted(), "Interrupt flag should be restored");
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.api;
+
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class ResponseCacheTest {
+
+    @Test
+    public void servesFreshEntryWithoutRequest() throws IOException {
+        ResponseCache cache = new ResponseCache(10);
+        RecordingServer server = new RecordingServer(response(200, "v1", null, null));
+
+        Assert.assertEquals(read(cache.get("a", 60_000, server)), "v1");
+        Assert.assertEquals(read(cache.get("a", 60_000, server)), "v1");
+
+        Assert.assertEquals(server.conditions.size(), 1);
+        Assert.assertEquals(cache.getMetrics().get("hits"), 1L);
+        Assert.assertEquals(cache.getMetrics().get("misses"), 1L);
+    }
+
+    @Test
+    public void refetchesStaleEntryWithoutValidators() throws Exception {
+        ResponseCache cache = new ResponseCache(10);
+        RecordingServer server = new RecordingServer(response(200, "v1", null, null), response(200, "v2", null, null));
+
+        cache.get("a", 20, server).close();
+        Thread.sleep(50);
+
+        Assert.assertEquals(read(cache.get("a", 20, server)), "v2");
+        Assert.assertEquals(server.conditions.get(1), Map.of());
+    }
+
+    @Test
+    public void revalidatesStaleEntryAndKeepsBodyOn304() throws Exception {
+        ResponseCache cache = new ResponseCache(10);
+        RecordingServer server = new RecordingServer(
+            response(200, "v1", "\"tag-1\"", "Mon, 01 Jan 2024 00:00:00 GMT"),
+            response(304, "", null, null));
+
+        cache.get("a", 20, server).close();
+        Thread.sleep(50);
+
+        Assert.assertEquals(read(cache.get("a", 60_000, server)), "v1");
+        Assert.assertEquals(server.conditions.get(1),
+            Map.of("If-None-Match", "\"tag-1\"", "If-Modified-Since", "Mon, 01 Jan 2024 00:00:00 GMT"));
+        Assert.assertEquals(cache.getMetrics().get("revalidated"), 1L);
+
+        // The 304 renewed the TTL
+        Assert.assertEquals(read(cache.get("a", 60_000, server)), "v1");
+        Assert.assertEquals(server.conditions.size(), 2);
+    }
+
+    @Test
+    public void replacesBodyWhenRevalidationReturnsNewContent() throws Exception {
+        ResponseCache cache = new ResponseCache(10);
+        RecordingServer server = new RecordingServer(
+            response(200, "v1", "\"tag-1\"", null),
+            response(200, "v2", "\"tag-2\"", null),
+            response(304, "", null, null));
+
+        cache.get("a", 20, server).close();
+        Thread.sleep(50);
+        Assert.assertEquals(read(cache.get("a", 20, server)), "v2");
+        Thread.sleep(50);
+        cache.get("a", 20, server).close();
+
+        Assert.assertEquals(server.conditions.get(2), Map.of("If-None-Match", "\"tag-2\""));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntry() throws IOException {
+        ResponseCache cache = new ResponseCache(2);
+        RecordingServer server = new RecordingServer(
+            response(200, "a", null, null), response(200, "b", null, null),
+            response(200, "c", null, null), response(200, "b2", null, null));
+
+        cache.get("a", 60_000, server).close();
+        cache.get("b", 60_000, server).close();
+        // Touch "a" so "b" becomes the eldest
+        cache.get("a", 60_000, server).close();
+        cache.get("c", 60_000, server).close();
+
+        Assert.assertEquals(read(cache.get("a", 60_000, server)), "a");
+        Assert.assertEquals(read(cache.get("b", 60_000, server)), "b2");
+        Assert.assertEquals(cache.getMetrics().get("evictions"), 2L);
+        Assert.assertEquals(cache.getMetrics().get("entries"), 2);
+    }
+
+    @Test
+    public void zeroTtlBypassesCache() throws IOException {
+        ResponseCache cache = new ResponseCache(10);
+        RecordingServer server = new RecordingServer(response(200, "v1", "\"tag\"", null), response(200, "v2", null, null));
+
+        Assert.assertEquals(read(cache.get("a", 0, server)), "v1");
+        Assert.assertEquals(read(cache.get("a", 0, server)), "v2");
+        Assert.assertEquals(cache.getMetrics().get("entries"), 0);
+    }
+
+    /** Answers with the given responses in turn and records the conditional headers of each request */
+    private static class RecordingServer implements Function<Map<String, String>, Response> {
+        private final List<Response> responses;
+        private final List<Map<String, String>> conditions = new ArrayList<>();
+
+        RecordingServer(Response... responses) {
+            this.responses = List.of(responses);
+        }
+
+        @Override
+        public Response apply(Map<String, String> headers) {
+            conditions.add(Map.copyOf(headers));
+            return responses.get(conditions.size() - 1);
+        }
+    }
+
+    private static Response response(int status, String body, String etag, String lastModified) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return (Response) Proxy.newProxyInstance(Response.class.getClassLoader(), new Class<?>[] {Response.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getStatusCode":
+                        return status;
+                    case "asByteArray":
+                        return bytes;
+                    case "asInputStream":
+                        return new ByteArrayInputStream(bytes);
+                    case "getHeader":
+                        return "ETag".equals(args[0]) ? etag : "Last-Modified".equals(args[0]) ? lastModified : null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.api;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class TokenCacheTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @AfterMethod
+    public void restoreClock() {
+        TokenCache.setClock(System::currentTimeMillis);
+    }
+
+    @Test
+    public void reusesTokenUntilRefreshWindow() {
+        TokenCache.setClock(now::get);
+        AtomicInteger grants = new AtomicInteger();
+        Supplier<AuthService.TokenResponse> grant = () -> token("id-" + grants.incrementAndGet(), 3600);
+
+        AuthService.TokenResponse first = TokenCache.get("http://auth-reuse", "user", grant, noRefresh());
+        now.addAndGet(3_000_000);
+        AuthService.TokenResponse second = TokenCache.get("http://auth-reuse", "user", grant, noRefresh());
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(grants.get(), 1);
+    }
+
+    @Test
+    public void renewsWithRefreshTokenInRefreshWindow() {
+        TokenCache.setClock(now::get);
+        AtomicInteger refreshes = new AtomicInteger();
+        AuthService.TokenResponse first = TokenCache.get("http://auth-window", "user", () -> token("id-1", 3600), noRefresh());
+
+        // 30 seconds before expiry: inside the 60 second window, still usable
+        now.addAndGet(3_570_000);
+        AuthService.TokenResponse renewed = TokenCache.get("http://auth-window", "user", () -> token("id-grant", 3600),
+            refreshToken -> {
+                refreshes.incrementAndGet();
+                Assert.assertEquals(refreshToken, "refresh-id-1");
+                return token("id-2", 3600);
+            });
+        AuthService.TokenResponse cached = TokenCache.get("http://auth-window", "user", () -> token("id-grant", 3600), noRefresh());
+
+        Assert.assertNotSame(renewed, first);
+        Assert.assertEquals(renewed.getIdToken(), "id-2");
+        Assert.assertSame(cached, renewed);
+        Assert.assertEquals(refreshes.get(), 1);
+    }
+
+    @Test
+    public void keepsCurrentTokenWhenEarlyRenewalFails() {
+        TokenCache.setClock(now::get);
+        AuthService.TokenResponse first = TokenCache.get("http://auth-failed-renewal", "user", () -> token("id-1", 3600), noRefresh());
+
+        now.addAndGet(3_570_000);
+        AuthService.TokenResponse result = TokenCache.get("http://auth-failed-renewal", "user",
+            () -> new AuthService.TokenResponse(null, null, null, 0, 500),
+            refreshToken -> new AuthService.TokenResponse(null, null, null, 0, 401));
+
+        Assert.assertSame(result, first);
+    }
+
+    @Test
+    public void expiredTokenIsRenewedBeforeUse() {
+        TokenCache.setClock(now::get);
+        TokenCache.get("http://auth-expired", "user", () -> token("id-1", 60), noRefresh());
+
+        // Within the expiry skew counts as expired
+        now.addAndGet(56_000);
+        AuthService.TokenResponse result = TokenCache.get("http://auth-expired", "user", () -> token("id-grant", 60),
+            refreshToken -> token("id-2", 60));
+
+        Assert.assertEquals(result.getIdToken(), "id-2");
+    }
+
+    @Test
+    public void failedResponsesAreNotCached() {
+        AtomicInteger grants = new AtomicInteger();
+        Supplier<AuthService.TokenResponse> failing = () -> {
+            grants.incrementAndGet();
+            return new AuthService.TokenResponse(null, null, null, 0, 401);
+        };
+
+        TokenCache.get("http://auth-failing", "user", failing, noRefresh());
+        TokenCache.get("http://auth-failing", "user", failing, noRefresh());
+
+        Assert.assertEquals(grants.get(), 2);
+    }
+
+    @Test
+    public void concurrentCallersShareOneRequest() throws Exception {
+        int callers = 8;
+        AtomicInteger grants = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<AuthService.TokenResponse> slowGrant = () -> {
+            grants.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return token("shared", 3600);
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<AuthService.TokenResponse>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> TokenCache.get("http://auth-single-flight", "user", slowGrant, noRefresh())));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            AuthService.TokenResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<AuthService.TokenResponse> result : results) {
+                Assert.assertSame(result.get(5, TimeUnit.SECONDS), first);
+            }
+            Assert.assertEquals(grants.get(), 1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static AuthService.TokenResponse token(String idToken, int expiresIn) {
+        return new AuthService.TokenResponse(idToken, "access-" + idToken, "refresh-" + idToken, expiresIn, 200);
+    }
+
+    private static Function<String, AuthService.TokenResponse> noRefresh() {
+        return refreshToken -> {
+            throw new AssertionError("Unexpected refresh");
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.mobile.automation.core.driver;
+
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class DriverManagerProfileTest {
+
+    @Test
+    public void secondSessionOnTheSameDeviceIsWarm() {
+        DeviceSessionRegistry registry = DeviceSessionRegistry.getInstance();
+        DesiredCapabilities capabilities = new DesiredCapabilities();
+        capabilities.setCapability("udid", "profile-test-device-1");
+
+        Assert.assertEquals(DriverManager.selectProfile(registry, true, capabilities), CapabilityProfile.FIRST_SESSION);
+        registry.recordSuccess(CapabilityProfile.FIRST_SESSION, 1200, "profile-test-device-1");
+
+        Assert.assertEquals(DriverManager.selectProfile(registry, true, capabilities), CapabilityProfile.WARM);
+    }
+
+    @Test
+    public void sessionsWithoutUdidStayCold() {
+        DeviceSessionRegistry registry = DeviceSessionRegistry.getInstance();
+        DesiredCapabilities capabilities = new DesiredCapabilities();
+        capabilities.setCapability("deviceName", "Android Device");
+        registry.recordSuccess(CapabilityProfile.FIRST_SESSION, 1200, "profile-test-device-2");
+
+        Assert.assertEquals(DriverManager.selectProfile(registry, true, capabilities), CapabilityProfile.FIRST_SESSION);
+    }
+
+    @Test
+    public void warmProfileCanBeDisabled() {
+        DeviceSessionRegistry registry = DeviceSessionRegistry.getInstance();
+        DesiredCapabilities capabilities = new DesiredCapabilities();
+        capabilities.setCapability("udid", "profile-test-device-3");
+        registry.recordSuccess(CapabilityProfile.FIRST_SESSION, 1200, "profile-test-device-3");
+
+        Assert.assertEquals(DriverManager.selectProfile(registry, false, capabilities), CapabilityProfile.FIRST_SESSION);
+    }
+}
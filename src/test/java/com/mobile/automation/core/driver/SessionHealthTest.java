@@ -0,0 +1,69 @@
+package com.mobile.automation.core.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SessionHealthTest {
+
+    @Test
+    public void baselineP90IsSetOnceBaselineIsFull() {
+        SessionHealth health = new SessionHealth(10, 5);
+        for (int i = 1; i <= 9; i++) {
+            health.recordCommand(i * 10);
+        }
+        Assert.assertEquals(health.getBaselineP90(), -1);
+
+        health.recordCommand(100);
+        Assert.assertEquals(health.getBaselineP90(), 90);
+    }
+
+    @Test
+    public void recentP90UsesRollingWindow() {
+        SessionHealth health = new SessionHealth(1, 3);
+        health.recordCommand(10);
+        Assert.assertEquals(health.getRecentP90(), -1);
+
+        health.recordCommand(500);
+        health.recordCommand(20);
+        health.recordCommand(30);
+        health.recordCommand(40);
+        // 500 has rolled out of the three-command window
+        Assert.assertEquals(health.getRecentP90(), 40);
+    }
+
+    @Test
+    public void recyclesOnDriftOnlyWithFullWindow() {
+        SessionHealth health = new SessionHealth(5, 5);
+        for (int i = 0; i < 5; i++) {
+            health.recordCommand(100);
+        }
+        for (int i = 0; i < 4; i++) {
+            health.recordCommand(400);
+        }
+        Assert.assertNull(health.getRecycleReason(3.0, 0, 0));
+
+        health.recordCommand(400);
+        Assert.assertEquals(health.getRecycleReason(3.0, 0, 0), "command p90 drifted from 100 ms to 400 ms");
+        Assert.assertNull(health.getRecycleReason(5.0, 0, 0));
+        Assert.assertNull(health.getRecycleReason(0, 0, 0));
+    }
+
+    @Test
+    public void zeroBaselineIsFloored() {
+        SessionHealth health = new SessionHealth(2, 2);
+        health.recordCommand(0);
+        health.recordCommand(0);
+        health.recordCommand(2);
+        health.recordCommand(2);
+        Assert.assertNull(health.getRecycleReason(3.0, 0, 0));
+    }
+
+    @Test
+    public void recyclesAfterMaxScenarios() {
+        SessionHealth health = new SessionHealth(5, 5);
+        Assert.assertNull(health.getRecycleReason(0, 2, 0));
+
+        health.scenarioStarted();
+        Assert.assertEquals(health.getRecycleReason(0, 2, 0), "served 2 scenarios");
+    }
+}
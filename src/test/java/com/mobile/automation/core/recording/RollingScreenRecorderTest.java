@@ -0,0 +1,64 @@
+package com.mobile.automation.core.recording;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class RollingScreenRecorderTest {
+
+    @Test
+    public void rotatesOnlyWhenTheSegmentIsDue() throws Exception {
+        CountingRecorder recorder = new CountingRecorder();
+        RollingScreenRecorder rolling = new RollingScreenRecorder(recorder, Duration.ofMillis(50), Duration.ofSeconds(30), "");
+        rolling.start();
+
+        rolling.rotateIfDue();
+        Assert.assertEquals(recorder.starts, 1);
+
+        Thread.sleep(60);
+        rolling.rotateIfDue();
+        Assert.assertEquals(recorder.starts, 2);
+        Assert.assertEquals(recorder.stops, 1);
+        rolling.discard();
+    }
+
+    @Test
+    public void finishCompletesOnceTheRecordingIsWritten() throws Exception {
+        CountingRecorder recorder = new CountingRecorder();
+        RollingScreenRecorder rolling = new RollingScreenRecorder(recorder, Duration.ofMillis(10), Duration.ofSeconds(30), "");
+        rolling.start();
+        Thread.sleep(20);
+        rolling.rotateIfDue();
+
+        Path directory = Files.createTempDirectory("recording");
+        Path written = rolling.finish(directory).get(10, TimeUnit.SECONDS);
+
+        // Without ffmpeg the segments are listed in a playlist
+        Assert.assertEquals(written, directory.resolve("recording.m3u"));
+        List<String> playlist = Files.readAllLines(written, StandardCharsets.UTF_8);
+        Assert.assertEquals(playlist, List.of("segment-000.mp4", "segment-001.mp4"));
+        Assert.assertTrue(Files.exists(directory.resolve("segment-001.mp4")));
+    }
+
+    private static class CountingRecorder implements ScreenRecorder {
+        private int starts;
+        private int stops;
+
+        @Override
+        public void start(Duration timeLimit) {
+            starts++;
+        }
+
+        @Override
+        public byte[] stop() {
+            stops++;
+            return new byte[] {(byte) stops};
+        }
+    }
+}
@@ -1,20 +1,50 @@
 package com.mobile.automation.hooks;
 
+import com.example.api.BackendService;
+import com.example.api.CreatedEntityRegistry;
 import com.mobile.automation.config.MobileConfig;
+import com.mobile.automation.core.artifacts.ArtifactRef;
+import com.mobile.automation.core.artifacts.ArtifactStore;
+import com.mobile.automation.core.artifacts.PageSourceArchive;
 import com.mobile.automation.core.driver.DriverManager;
+import com.mobile.automation.core.driver.SessionHealth;
+import com.mobile.automation.core.driver.TimedCommandExecutor;
+import com.mobile.automation.core.recording.RollingScreenRecorder;
+import com.mobile.automation.platforms.android.AdbShell;
 import com.mobile.automation.platforms.android.AndroidCapabilities;
+import com.mobile.automation.platforms.android.ApkInstallCache;
+import com.mobile.automation.platforms.android.DevicePreparation;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.remote.CommandExecutor;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 public class MobileTestHooks {
     private static final Logger LOGGER = LoggerFactory.getLogger(MobileTestHooks.class);
+    private static final String DRIVERLESS_TAG = "@driverless";
+    private static final Duration PAGE_SOURCE_CLOSE_TIMEOUT = Duration.ofSeconds(30);
+    // Covers the shared writer queue plus ffmpeg stitching (itself capped at 60s)
+    private static final Duration RECORDING_WRITE_TIMEOUT = Duration.ofSeconds(90);
     private MobileConfig config;
+    private RollingScreenRecorder screenRecorder;
+    private TimedCommandExecutor recordingExecutor;
+    private PageSourceArchive pageSourceArchive;
+    private int stepIndex;
     
     @Before
     public void setUp(Scenario scenario) {
@@ -23,9 +53,22 @@ public class MobileTestHooks {
         config = MobileConfig.getInstance();
         
         try {
-            // Initialize driver if not already initialized
-            if (!DriverManager.isDriverInitialized()) {
-                initializeDriver();
+            recycleSessionIfDue();
+            
+            if (scenario.getSourceTagNames().contains(DRIVERLESS_TAG)) {
+                LOGGER.info("Scenario is {}, no mobile session will be started", DRIVERLESS_TAG);
+            } else if (DriverManager.isDriverInitialized()) {
+                startScenarioCapture();
+            } else {
+                // Started by the first UI command, so API-only steps never wait for a session
+                DriverManager.Platform platform = getPlatform();
+                DriverManager.deferDriver(platform, () -> {
+                    initializeDriver(platform);
+                    DriverManager.SessionStartup startup = DriverManager.getLastSessionStartup();
+                    scenario.log(String.format("Session started in %d ms (%s profile)",
+                        startup.getLatencyMillis(), startup.getProfile()));
+                    startScenarioCapture();
+                });
             }
             
             LOGGER.info("Scenario setup completed for: {}", scenario.getName());
@@ -37,12 +80,18 @@ public class MobileTestHooks {
     
     @After
     public void tearDown(Scenario scenario) {
+        // A session nobody asked for must not be started by the next scenario on this thread
+        DriverManager.cancelDeferredDriver();
         try {
             // Take screenshot if scenario failed
             if (scenario.isFailed() && config.isScreenshotOnFailure()) {
                 takeScreenshot(scenario);
             }
             
+            finishScreenRecording(scenario);
+            
+            attachPageSourceArchive(scenario);
+            
             LOGGER.info("Scenario completed: {} - Status: {}", 
                        scenario.getName(), 
                        scenario.getStatus());
@@ -52,11 +101,85 @@ public class MobileTestHooks {
         }
     }
     
-    private void initializeDriver() {
-        // Get platform from system property or default to Android
-        String platformName = System.getProperty("platform", "android");
-        DriverManager.Platform platform = DriverManager.Platform.valueOf(platformName.toUpperCase());
+    @After
+    public void cleanupCreatedEntities(Scenario scenario) {
+        // Only what this scenario created through BackendService; nothing is listed
+        if (!CreatedEntityRegistry.hasScenarioEntities()) {
+            return;
+        }
+        try {
+            scenario.log("Test data cleanup: " + new BackendService().cleanupScenarioEntities());
+        } catch (Exception e) {
+            LOGGER.error("Failed to clean up test data of scenario: {}", scenario.getName(), e);
+        }
+    }
+    
+    @AfterAll
+    public static void cleanupRemainingEntities() {
+        if (!CreatedEntityRegistry.hasRunEntities()) {
+            return;
+        }
+        try {
+            new BackendService().cleanupRunEntities();
+        } catch (Exception e) {
+            LOGGER.error("Failed to clean up remaining test data", e);
+        }
+    }
+    
+    @AfterStep
+    public void afterStep(Scenario scenario) {
+        stepIndex++;
+        capturePageSource(scenario);
+    }
+    
+    private void attachPageSourceArchive(Scenario scenario) {
+        if (pageSourceArchive == null) {
+            return;
+        }
+        try {
+            // Attach only a complete archive; the writer is shared, so allow for a short queue
+            Path archive = pageSourceArchive.close().get(PAGE_SOURCE_CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            if (archive != null) {
+                scenario.attach(ArtifactStore.reportLink(archive), "text/uri-list", "Page sources");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.warn("Page source archive not attached: {}", e.toString());
+        } finally {
+            pageSourceArchive = null;
+        }
+    }
+    
+    private void recycleSessionIfDue() {
+        SessionHealth health = DriverManager.getSessionHealth();
+        if (health == null || !DriverManager.isDriverInitialized()) {
+            return;
+        }
         
+        String reason = health.getRecycleReason(config.getRecycleLatencyFactor(),
+            config.getRecycleMaxScenarios(), config.getRecycleMaxMinutes());
+        if (reason != null) {
+            // The replacement is started lazily like any other session
+            LOGGER.info("Recycling session after {} ({} scenarios)", reason, health.getScenarios());
+            DriverManager.quitDriver();
+        } else {
+            health.scenarioStarted();
+        }
+    }
+    
+    private DriverManager.Platform getPlatform() {
+        // Platform comes from the configuration context bound to this worker
+        return DriverManager.Platform.valueOf(config.getPlatform().toUpperCase());
+    }
+    
+    private void startScenarioCapture() {
+        if (config.isRecordingOnFailure()) {
+            startScreenRecording();
+        }
+    }
+    
+    private void initializeDriver(DriverManager.Platform platform) {
         // Set Appium server URL from configuration
         DriverManager.setAppiumServerUrl(config.getAppiumServerUrl());
         
@@ -70,13 +193,13 @@ public class MobileTestHooks {
                 capabilities = createIOSCapabilities();
                 break;
             default:
-                throw new IllegalArgumentException("Unsupported platform: " + platformName);
+                throw new IllegalArgumentException("Unsupported platform: " + platform);
         }
         
         // Initialize driver
         DriverManager.initializeDriver(platform, capabilities);
         
-        LOGGER.info("Driver initialized for platform: {}", platformName);
+        LOGGER.info("Driver initialized for platform: {}", platform);
     }
     
     private DesiredCapabilities createAndroidCapabilities() {
@@ -86,8 +209,14 @@ public class MobileTestHooks {
         String appPath = config.getAppPath();
         
         DesiredCapabilities capabilities;
+        ApkInstallCache.InstallPlan installPlan = null;
         
-        if (appPath != null && !appPath.isEmpty()) {
+        if (appPath != null && !appPath.isEmpty() && config.isInstallCacheEnabled()) {
+            // Reuse an identical installed build instead of reinstalling the APK
+            installPlan = ApkInstallCache.getInstance().plan(appPath, appPackage, appActivity,
+                new AdbShell(config.getAdbPath(), config.getDeviceUdid()));
+            capabilities = installPlan.getCapabilities();
+        } else if (appPath != null && !appPath.isEmpty()) {
             // Use APK path if specified
             capabilities = AndroidCapabilities.getApkCapabilities(appPath);
         } else if (appPackage != null && appActivity != null) {
@@ -98,12 +227,36 @@ public class MobileTestHooks {
             capabilities = AndroidCapabilities.getCalculatorCapabilities();
         }
         
+        Set<DevicePreparation.Operation> skipped = prepareDevice(appPackage, installPlan);
+        
         // Apply additional configuration
         applyConfigurationToCapabilities(capabilities);
+        if (installPlan != null) {
+            installPlan.applyResetPolicy(capabilities);
+        }
+        if (skipped.contains(DevicePreparation.Operation.PERMISSIONS)) {
+            // Not installed yet, so nothing could be granted; let Appium grant on install
+            capabilities.setCapability("autoGrantPermissions", true);
+        }
         
         return capabilities;
     }
     
+    private Set<DevicePreparation.Operation> prepareDevice(String appPackage, ApkInstallCache.InstallPlan installPlan) {
+        Set<DevicePreparation.Operation> operations = DevicePreparation.parseOperations(config.getDevicePreparations());
+        if (installPlan != null && installPlan.isReuseInstalled()) {
+            // The install cache has just cleared the app data
+            operations.remove(DevicePreparation.Operation.CLEAR_DATA);
+        }
+        if (operations.isEmpty()) {
+            return operations;
+        }
+        
+        AdbShell adb = new AdbShell(config.getAdbPath(), config.getDeviceUdid());
+        return new DevicePreparation(adb, appPackage, config.getDevicePrepPermissions(), config.getDevicePrepScreenTimeout())
+            .prepare(operations);
+    }
+    
     private DesiredCapabilities createIOSCapabilities() {
         // iOS capabilities - placeholder implementation
         DesiredCapabilities capabilities = new DesiredCapabilities();
@@ -135,6 +288,12 @@ public class MobileTestHooks {
             capabilities.setCapability("platformVersion", platformVersion);
         }
         
+        // A requested udid lets DriverManager start later sessions on this device with the WARM profile
+        String udid = config.getDeviceUdid();
+        if (udid != null && !udid.trim().isEmpty()) {
+            capabilities.setCapability("udid", udid.trim());
+        }
+        
         LOGGER.debug("Applied configuration to capabilities");
     }
     
@@ -142,7 +301,13 @@ public class MobileTestHooks {
         try {
             if (DriverManager.isDriverInitialized()) {
                 byte[] screenshot = ((TakesScreenshot) DriverManager.getDriver()).getScreenshotAs(OutputType.BYTES);
-                scenario.attach(screenshot, "image/png", "Screenshot");
+                if (config.isArtifactsEmbedded()) {
+                    scenario.attach(screenshot, "image/png", "Screenshot");
+                } else {
+                    // Reference the content-addressed file instead of embedding base64 in every report
+                    ArtifactRef ref = ArtifactStore.getInstance().storeScreenshot(screenshot);
+                    scenario.attach(ref.getReportLink(), "text/uri-list", "Screenshot " + ref.getShortHash());
+                }
                 LOGGER.info("Screenshot attached to scenario: {}", scenario.getName());
             }
         } catch (Exception e) {
@@ -150,6 +315,82 @@ public class MobileTestHooks {
         }
     }
     
+    private void capturePageSource(Scenario scenario) {
+        String mode = config.getPageSourceCaptureMode();
+        boolean capture = "step".equalsIgnoreCase(mode)
+            || ("failure".equalsIgnoreCase(mode) && scenario.isFailed() && pageSourceArchive == null);
+        if (!capture || !DriverManager.isDriverInitialized()) {
+            return;
+        }
+        
+        try {
+            // Only the device round trip happens here, compression and I/O run on the writer thread
+            String pageSource = DriverManager.getDriver().getPageSource();
+            if (pageSourceArchive == null) {
+                Path file = Paths.get(config.getPageSourcePath(), scenarioFileName(scenario) + ".zip");
+                pageSourceArchive = new PageSourceArchive(file, PageSourceArchive.compressionLevel(config.getPageSourceCompression()));
+            }
+            pageSourceArchive.record(stepIndex, scenario.getStatus().name(), pageSource);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to capture page source after step {}: {}", stepIndex, e.getMessage());
+        }
+    }
+    
+    private void startScreenRecording() {
+        try {
+            screenRecorder = RollingScreenRecorder.forDriver(
+                DriverManager.getDriver(),
+                Duration.ofSeconds(config.getRecordingSegmentSeconds()),
+                Duration.ofSeconds(config.getRecordingKeepSeconds()),
+                config.getFfmpegCommand());
+            screenRecorder.start();
+            
+            // Rotate between the scenario's own commands, on its thread, rather than from a timer
+            CommandExecutor executor = DriverManager.getDriver().getCommandExecutor();
+            if (executor instanceof TimedCommandExecutor) {
+                recordingExecutor = (TimedCommandExecutor) executor;
+                recordingExecutor.setAfterCommand(screenRecorder::rotateIfDue);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Screen recording not available: {}", e.getMessage());
+            screenRecorder = null;
+        }
+    }
+    
+    private void finishScreenRecording(Scenario scenario) {
+        if (screenRecorder == null) {
+            return;
+        }
+        if (recordingExecutor != null) {
+            recordingExecutor.setAfterCommand(null);
+            recordingExecutor = null;
+        }
+        try {
+            if (scenario.isFailed()) {
+                Path outputDirectory = Paths.get(config.getRecordingPath(), scenarioFileName(scenario));
+                // Attach only a written file, as with the page source archive
+                Path recording = screenRecorder.finish(outputDirectory)
+                    .get(RECORDING_WRITE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (recording != null) {
+                    scenario.attach(ArtifactStore.reportLink(recording), "text/uri-list", "Screen recording");
+                    LOGGER.info("Screen recording attached to scenario: {}", scenario.getName());
+                }
+            } else {
+                screenRecorder.discard();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOGGER.error("Failed to finish screen recording for scenario: {}", scenario.getName(), e);
+        } finally {
+            screenRecorder = null;
+        }
+    }
+    
+    private String scenarioFileName(Scenario scenario) {
+        return scenario.getId().replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+    
     // Hook for driver cleanup at the end of test suite
     @After("@quit-driver")
     public void quitDriver() {
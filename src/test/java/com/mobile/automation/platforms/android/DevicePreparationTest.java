@@ -0,0 +1,112 @@
+package com.mobile.automation.platforms.android;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public class DevicePreparationTest {
+
+    @Test
+    public void parsesCamelCaseAndUnderscoreNames() {
+        Assert.assertEquals(DevicePreparation.parseOperations("animations, clearData,screen_timeout"),
+            EnumSet.of(DevicePreparation.Operation.ANIMATIONS, DevicePreparation.Operation.CLEAR_DATA,
+                DevicePreparation.Operation.SCREEN_TIMEOUT));
+    }
+
+    @Test
+    public void ignoresUnknownAndBlankNames() {
+        Assert.assertEquals(DevicePreparation.parseOperations("permissions,,wifi, "),
+            EnumSet.of(DevicePreparation.Operation.PERMISSIONS));
+    }
+
+    @Test
+    public void emptyOrMissingValueMeansNoPreparation() {
+        Assert.assertTrue(DevicePreparation.parseOperations("").isEmpty());
+        Assert.assertTrue(DevicePreparation.parseOperations(null).isEmpty());
+    }
+
+    @Test
+    public void permissionsAreGrantedAfterClearingData() {
+        // pm clear revokes runtime grants, so the order of the batch matters
+        List<DevicePreparation.Operation> order = new ArrayList<>(DevicePreparation.parseOperations("permissions,clearData"));
+        Assert.assertEquals(order, List.of(DevicePreparation.Operation.CLEAR_DATA, DevicePreparation.Operation.PERMISSIONS));
+        Assert.assertFalse(DevicePreparation.Operation.PERMISSIONS.isSticky());
+    }
+
+    @Test
+    public void pendingOperationsRunInOneShellCall() {
+        FakeAdbShell adb = new FakeAdbShell("prep-batch", "");
+        new DevicePreparation(adb, "com.example.app", List.of("android.permission.CAMERA"), 60000)
+            .prepare(DevicePreparation.parseOperations("animations,clearData,permissions,screenTimeout"));
+
+        Assert.assertEquals(adb.commands.size(), 1);
+        String batch = adb.commands.get(0);
+        Assert.assertTrue(batch.contains("settings put global window_animation_scale 0"));
+        Assert.assertTrue(batch.contains("pm clear com.example.app"));
+        Assert.assertTrue(batch.contains("pm grant com.example.app android.permission.CAMERA"));
+        Assert.assertTrue(batch.contains("settings put system screen_off_timeout 60000"));
+        Assert.assertTrue(batch.indexOf("pm clear") < batch.indexOf("pm grant"));
+    }
+
+    @Test
+    public void stickyOperationsAreCachedPerUdid() {
+        FakeAdbShell adb = new FakeAdbShell("prep-cache-1", "");
+        Set<DevicePreparation.Operation> operations = DevicePreparation.parseOperations("animations,screenTimeout");
+        new DevicePreparation(adb, null, List.of(), 60000).prepare(operations);
+        new DevicePreparation(adb, null, List.of(), 60000).prepare(operations);
+        Assert.assertEquals(adb.commands.size(), 1);
+
+        // Another device has not been prepared yet
+        FakeAdbShell other = new FakeAdbShell("prep-cache-2", "");
+        new DevicePreparation(other, null, List.of(), 60000).prepare(operations);
+        Assert.assertEquals(other.commands.size(), 1);
+
+        DevicePreparation.invalidate("prep-cache-1");
+        new DevicePreparation(adb, null, List.of(), 60000).prepare(operations);
+        Assert.assertEquals(adb.commands.size(), 2);
+    }
+
+    @Test
+    public void failedOperationsAreNotCached() {
+        FakeAdbShell adb = new FakeAdbShell("prep-failure", "PREP_FAILED:ANIMATIONS\n");
+        Set<DevicePreparation.Operation> operations = DevicePreparation.parseOperations("animations,screenTimeout");
+        new DevicePreparation(adb, null, List.of(), 60000).prepare(operations);
+
+        adb.output = "";
+        new DevicePreparation(adb, null, List.of(), 60000).prepare(operations);
+        Assert.assertEquals(adb.commands.size(), 2);
+        Assert.assertTrue(adb.commands.get(1).contains("window_animation_scale"));
+        Assert.assertFalse(adb.commands.get(1).contains("screen_off_timeout"));
+    }
+
+    @Test
+    public void appOperationsAreSkippedUntilThePackageIsInstalled() {
+        FakeAdbShell adb = new FakeAdbShell("prep-missing-app", "PREP_SKIPPED:CLEAR_DATA\nPREP_SKIPPED:PERMISSIONS\n");
+        Set<DevicePreparation.Operation> skipped = new DevicePreparation(adb, "com.example.app",
+                List.of("android.permission.CAMERA"), 60000)
+            .prepare(DevicePreparation.parseOperations("clearData,permissions"));
+
+        Assert.assertTrue(adb.commands.get(0).contains("if pm path com.example.app"));
+        Assert.assertEquals(skipped, EnumSet.of(DevicePreparation.Operation.CLEAR_DATA, DevicePreparation.Operation.PERMISSIONS));
+    }
+
+    private static class FakeAdbShell extends AdbShell {
+        private final List<String> commands = new ArrayList<>();
+        private String output;
+
+        FakeAdbShell(String udid, String output) {
+            super("adb", udid);
+            this.output = output;
+        }
+
+        @Override
+        public String shell(String command) {
+            commands.add(command);
+            return output;
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.mobile.automation.runners;
 
-import io.cucumber.testng.AbstractTestNGCucumberTests;
+import com.mobile.automation.config.ConfigContext;
 import io.cucumber.testng.CucumberOptions;
-import org.testng.annotations.DataProvider;
 import org.testng.annotations.BeforeClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,27 +23,16 @@ import org.slf4j.LoggerFactory;
     monochrome = true,
     publish = true
 )
-public class AndroidTestRunner extends AbstractTestNGCucumberTests {
+public class AndroidTestRunner extends ContextBoundTestRunner {
     private static final Logger LOGGER = LoggerFactory.getLogger(AndroidTestRunner.class);
     
     @BeforeClass
     public void setUpAndroidTests() {
         LOGGER.info("Setting up Android-specific test configuration");
         
-        // Set Android as default platform
-        System.setProperty("platform", "android");
-        
-        // Set default environment if not specified
-        if (System.getProperty("environment") == null) {
-            System.setProperty("environment", "local");
-        }
+        // Android platform, environment from -Denvironment or local
+        configContext = ConfigContext.of("android", System.getProperty("environment", "local"));
         
         LOGGER.info("Android test setup completed");
     }
-    
-    @Override
-    @DataProvider(parallel = false)
-    public Object[][] scenarios() {
-        return super.scenarios();
-    }
 }
\ No newline at end of file
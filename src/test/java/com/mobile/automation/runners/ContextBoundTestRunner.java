@@ -0,0 +1,65 @@
+package com.mobile.automation.runners;
+
+import com.mobile.automation.config.ConfigContext;
+import com.mobile.automation.config.MobileConfig;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.PickleWrapper;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Base for runners that execute their scenarios under a {@link ConfigContext}
+ * set up by the subclass, with optional app affinity scheduling.
+ * Artifact links attached by the hooks are made relative to the directory of the
+ * runner's html report, so they resolve from the report that embeds them.
+ */
+public abstract class ContextBoundTestRunner extends AbstractTestNGCucumberTests {
+    private static final String REPORT_LINK_BASE = "test.reports.linkBase";
+    
+    protected ConfigContext configContext = ConfigContext.DEFAULT;
+    
+    @Override
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "scenarios")
+    public void runScenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) {
+        ConfigContext.Scope scope = configContext.with(REPORT_LINK_BASE, reportDirectory()).bind();
+        try {
+            super.runScenario(pickleWrapper, featureWrapper);
+        } finally {
+            scope.close();
+        }
+    }
+    
+    @Override
+    @DataProvider(parallel = false)
+    public Object[][] scenarios() {
+        Object[][] scenarios = super.scenarios();
+        MobileConfig config = MobileConfig.forContext(configContext);
+        if (!config.isAffinityScheduling()) {
+            return scenarios;
+        }
+        // Sequential provider, so scenarios sharing an app and Background run back to back on one session
+        return new ScenarioScheduler(scenarios, config.getSchedulingAppTags()).ordered();
+    }
+    
+    /**
+     * Directory of the html report from this runner's @CucumberOptions, or null if it writes none
+     */
+    private String reportDirectory() {
+        CucumberOptions options = getClass().getAnnotation(CucumberOptions.class);
+        if (options == null) {
+            return null;
+        }
+        for (String plugin : options.plugin()) {
+            if (plugin.startsWith("html:")) {
+                Path parent = Paths.get(plugin.substring("html:".length())).getParent();
+                return parent != null ? parent.toString() : ".";
+            }
+        }
+        return null;
+    }
+}
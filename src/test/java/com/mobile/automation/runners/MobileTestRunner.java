@@ -1,8 +1,7 @@
 package com.mobile.automation.runners;
 
-import io.cucumber.testng.AbstractTestNGCucumberTests;
+import com.mobile.automation.config.ConfigContext;
 import io.cucumber.testng.CucumberOptions;
-import org.testng.annotations.DataProvider;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.BeforeClass;
 import org.slf4j.Logger;
@@ -25,7 +24,7 @@ import org.slf4j.LoggerFactory;
     monochrome = true,
     publish = true
 )
-public class MobileTestRunner extends AbstractTestNGCucumberTests {
+public class MobileTestRunner extends ContextBoundTestRunner {
     private static final Logger LOGGER = LoggerFactory.getLogger(MobileTestRunner.class);
     
     @BeforeClass
@@ -33,20 +32,11 @@ public class MobileTestRunner extends AbstractTestNGCucumberTests {
     public void setUpClass(String platform, String environment) {
         LOGGER.info("Setting up test suite for platform: {}, environment: {}", platform, environment);
         
-        // Set system properties for configuration
-        if (platform != null) {
-            System.setProperty("platform", platform);
-        }
-        if (environment != null) {
-            System.setProperty("environment", environment);
-        }
+        // Scoped to this runner's workers instead of JVM-wide system properties
+        configContext = ConfigContext.DEFAULT
+            .with(ConfigContext.PLATFORM, platform)
+            .with(ConfigContext.ENVIRONMENT, environment);
         
         LOGGER.info("Test suite setup completed");
     }
-    
-    @Override
-    @DataProvider(parallel = false)
-    public Object[][] scenarios() {
-        return super.scenarios();
-    }
 }
\ No newline at end of file
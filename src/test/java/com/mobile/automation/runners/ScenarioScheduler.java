@@ -0,0 +1,125 @@
+package com.mobile.automation.runners;
+
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Orders scenarios so that a session keeps running scenarios that need the same
+ * app and the same starting state.
+ *
+ * The affinity key of a scenario is its app (an {@code @app:<name>} tag or one of the
+ * configured app tags) plus the Background steps of its feature. Keys are sorted, so
+ * features whose Backgrounds share a prefix (e.g. the same login) end up adjacent.
+ * The runner's data provider is sequential, so this order is also the order in which
+ * one session runs them. Scenarios are not routed between parallel sessions; with a
+ * single session per runner, ordering is what keeps it in the matching app state.
+ */
+public class ScenarioScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioScheduler.class);
+    private static final String APP_TAG_PREFIX = "@app:";
+    private static final String DEFAULT_APP = "default";
+
+    private final List<String> appTags;
+    private final Map<URI, String> backgrounds = new HashMap<>();
+    private final List<Object[]> ordered = new ArrayList<>();
+
+    public ScenarioScheduler(Object[][] scenarios, List<String> appTags) {
+        this.appTags = appTags;
+
+        Map<String, List<Object[]>> groups = new TreeMap<>();
+        for (Object[] scenario : scenarios) {
+            groups.computeIfAbsent(affinityKey(scenario), key -> new ArrayList<>()).add(scenario);
+        }
+        groups.values().forEach(ordered::addAll);
+        LOGGER.info("Scheduled {} scenarios in {} affinity groups", ordered.size(), groups.size());
+    }
+
+    /**
+     * Scenarios in affinity order, for use as the data provider rows
+     */
+    public Object[][] ordered() {
+        return ordered.toArray(new Object[0][]);
+    }
+
+    private String affinityKey(Object[] scenario) {
+        Pickle pickle = pickle(scenario);
+        return appFor(pickle.getTags()) + "\n" + backgrounds.computeIfAbsent(pickle.getUri(), ScenarioScheduler::readBackground);
+    }
+
+    private String appFor(List<String> tags) {
+        for (String tag : tags) {
+            if (tag.startsWith(APP_TAG_PREFIX)) {
+                return tag.substring(APP_TAG_PREFIX.length());
+            }
+        }
+        for (String appTag : appTags) {
+            if (tags.contains("@" + appTag)) {
+                return appTag;
+            }
+        }
+        return DEFAULT_APP;
+    }
+
+    private static Pickle pickle(Object[] scenario) {
+        return ((PickleWrapper) scenario[0]).getPickle();
+    }
+
+    /**
+     * Background steps of a feature file, one per line, or the feature URI when it cannot be read
+     */
+    private static String readBackground(URI featureUri) {
+        try (InputStream in = open(featureUri);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            StringBuilder steps = new StringBuilder();
+            boolean inBackground = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.startsWith("Background:")) {
+                    inBackground = true;
+                } else if (inBackground) {
+                    if (trimmed.startsWith("@") || trimmed.startsWith("Scenario") || trimmed.startsWith("Example")
+                        || trimmed.startsWith("Rule:")) {
+                        break;
+                    }
+                    if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                        steps.append(trimmed).append('\n');
+                    }
+                }
+            }
+            return steps.toString();
+        } catch (Exception e) {
+            LOGGER.warn("Could not read Background of {}, grouping by feature instead: {}", featureUri, e.getMessage());
+            return featureUri.toString();
+        }
+    }
+
+    private static InputStream open(URI featureUri) throws IOException {
+        if ("classpath".equals(featureUri.getScheme())) {
+            String resource = featureUri.getSchemeSpecificPart().replaceFirst("^/", "");
+            InputStream in = ScenarioScheduler.class.getClassLoader().getResourceAsStream(resource);
+            if (in == null) {
+                throw new FileNotFoundException(resource);
+            }
+            return in;
+        }
+        return Files.newInputStream(Paths.get(featureUri));
+    }
+}
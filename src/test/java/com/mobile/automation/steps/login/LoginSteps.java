@@ -0,0 +1,92 @@
+package com.mobile.automation.steps.login;
+
+import com.example.config.FrameworkConfig;
+import com.mobile.automation.core.auth.LoginStateCache;
+import com.mobile.automation.core.base.BaseSteps;
+import com.mobile.automation.pages.login.LoginPage;
+import io.appium.java_client.InteractsWithApps;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+import java.util.Map;
+
+public class LoginSteps extends BaseSteps {
+    
+    private LoginPage loginPage;
+    private String username;
+    private String password;
+    
+    public LoginSteps() {
+        super();
+    }
+    
+    private LoginPage loginPage() {
+        // Created on first use so that building the step class does not start a session
+        if (loginPage == null) {
+            loginPage = new LoginPage();
+        }
+        return loginPage;
+    }
+    
+    @Given("I am on the login page")
+    public void iAmOnTheLoginPage() {
+        logStep("Verifying login page is displayed");
+        // Scenarios that start here test the login screen itself, so a login left by an earlier scenario is undone
+        if (LoginStateCache.getInstance().hasLogin()) {
+            logger.info("Session already logged in, relaunching the app logged out");
+            LoginStateCache.getInstance().invalidate();
+            relaunchLoggedOut();
+        }
+        loginPage().verifyPageIsDisplayed();
+    }
+    
+    @Given("I have valid user credentials")
+    public void iHaveValidUserCredentials() {
+        logStep("Using test user credentials");
+        FrameworkConfig frameworkConfig = FrameworkConfig.getInstance();
+        useCredentials(frameworkConfig.getTestUsername(), frameworkConfig.getTestPassword());
+    }
+    
+    @Given("I have valid staff credentials")
+    public void iHaveValidStaffCredentials() {
+        logStep("Using staff credentials");
+        FrameworkConfig frameworkConfig = FrameworkConfig.getInstance();
+        useCredentials(frameworkConfig.getStaffUsername(), frameworkConfig.getStaffPassword());
+    }
+    
+    @When("I login with valid credentials")
+    public void iLoginWithValidCredentials() {
+        logStep("Logging in as: {}", username);
+        verifyStep(username != null, "No credentials selected before logging in");
+        
+        LoginStateCache.Outcome outcome = LoginStateCache.getInstance().ensureLoggedIn(username, password,
+            () -> loginPage().isAuthenticated(), () -> loginPage().login(username, password));
+        logger.info("Login as {} completed: {}", username, outcome);
+    }
+    
+    @Then("I should be successfully logged in")
+    public void iShouldBeSuccessfullyLoggedIn() {
+        logStep("Verifying user is logged in");
+        verifyStep(loginPage().isAuthenticated(), "Expected the authenticated start screen after login");
+    }
+    
+    private void relaunchLoggedOut() {
+        String appId = config.getAppPackage();
+        verifyStep(appId != null && !appId.isEmpty(), "App package is not configured, cannot relaunch the app");
+        InteractsWithApps apps = (InteractsWithApps) getDriver();
+        if (isAndroid()) {
+            // Clearing app data drops the stored session along with it
+            getDriver().executeScript("mobile: clearApp", Map.of("appId", appId));
+        } else {
+            apps.terminateApp(appId);
+        }
+        apps.activateApp(appId);
+    }
+    
+    private void useCredentials(String username, String password) {
+        verifyStep(username != null && password != null, "Credentials are not configured");
+        this.username = username;
+        this.password = password;
+    }
+}